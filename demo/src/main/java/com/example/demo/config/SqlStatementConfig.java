@@ -0,0 +1,96 @@
+// src/main/java/com/example/demo/config/SqlStatementConfig.java
+package com.example.demo.config;
+
+import com.example.demo.service.PortfolioService;
+import com.example.demo.service.SqlStatementBudget;
+import com.example.demo.util.SqlStatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * SQL 문장 수 계측 설정
+ * - SqlStatementCounter를 Hibernate StatementInspector로 등록합니다.
+ * - 요청 단위(필터)와 PortfolioService 메서드 단위(어드바이저)로 문장 수를 SqlStatementBudget에 기록합니다.
+ */
+@Configuration
+public class SqlStatementConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * 요청 하나에서 실행된 문장 수 (뷰 렌더링 중 지연 로딩 포함)
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> sqlStatementRequestFilter(SqlStatementBudget budget) {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                long started = SqlStatementCounter.current();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    long statements = SqlStatementCounter.current() - started;
+                    // 정적 리소스 등 SQL이 없는 요청은 집계하지 않음
+                    if (statements > 0) {
+                        budget.recordRequest(requestKey(request), statements);
+                    }
+                }
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * PortfolioService 메서드별 문장 수 (트랜잭션 커밋 시 flush 포함되도록 트랜잭션 바깥에서 측정)
+     * - 별도 AOP 의존성 없이 기존 자동 프록시에 포함되도록 인프라 역할로 등록합니다.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor portfolioServiceStatementAdvisor(ObjectProvider<SqlStatementBudget> budget) {
+        MethodInterceptor interceptor = invocation -> {
+            long started = SqlStatementCounter.current();
+            try {
+                return invocation.proceed();
+            } finally {
+                budget.getObject().recordServiceMethod("PortfolioService." + invocation.getMethod().getName(),
+                        SqlStatementCounter.current() - started);
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(PortfolioService.class)), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    // URL 패턴 기준으로 묶어 ID별로 키가 늘어나지 않도록 함
+    private static String requestKey(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "(unmapped)");
+    }
+}
@@ -2,11 +2,25 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.*;
+import com.example.demo.service.EntityCacheStatistics;
+import com.example.demo.service.FileDeletionQueue;
 import com.example.demo.service.FileStorageService;
+import com.example.demo.service.ImageAssetIndex;
+import com.example.demo.service.PageOutputCache;
 import com.example.demo.service.PortfolioService;
+import com.example.demo.service.PortfolioSnapshotCache;
+import com.example.demo.service.PortfolioTransferService;
+import com.example.demo.service.ProjectDetailBatchUploader;
+import com.example.demo.service.ResizedImageService;
+import com.example.demo.service.SqlStatementBudget;
+import com.example.demo.service.StorageLayoutMigrator;
+import com.example.demo.service.ThumbnailRegenerationJob;
+import com.example.demo.service.ThumbnailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -14,8 +28,13 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -26,6 +45,18 @@ public class AdminController {
 
     private final PortfolioService portfolioService;
     private final FileStorageService fileStorageService;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final PageOutputCache pageOutputCache;
+    private final ThumbnailService thumbnailService;
+    private final ResizedImageService resizedImageService;
+    private final ProjectDetailBatchUploader projectDetailBatchUploader;
+    private final FileDeletionQueue fileDeletionQueue;
+    private final StorageLayoutMigrator storageLayoutMigrator;
+    private final ThumbnailRegenerationJob thumbnailRegenerationJob;
+    private final ImageAssetIndex imageAssetIndex;
+    private final PortfolioTransferService portfolioTransferService;
+    private final EntityCacheStatistics entityCacheStatistics;
+    private final SqlStatementBudget sqlStatementBudget;
 
     /**
      * 관리자 메인 페이지
@@ -458,6 +489,22 @@ public class AdminController {
         }
     }
 
+    /**
+     * 여러 프로젝트 일괄 삭제 (JSON 응답)
+     */
+    @PostMapping("/projects/delete")
+    public ResponseEntity<Map<String, Object>> deleteProjects(@RequestParam("projectIds") List<Long> projectIds) {
+        try {
+            int deleted = portfolioService.deleteProjects(projectIds);
+            Map<String, Object> data = new HashMap<>();
+            data.put("deleted", deleted);
+            return createSuccessResponse("프로젝트 " + deleted + "건이 삭제되었습니다.", data);
+        } catch (Exception e) {
+            log.error("프로젝트 일괄 삭제 실패", e);
+            return createErrorResponse("프로젝트 일괄 삭제 중 오류가 발생했습니다: " + e.getMessage(), null);
+        }
+    }
+
     /**
      * 프로젝트 상세 정보 추가
      */
@@ -476,6 +523,54 @@ public class AdminController {
         }
     }
 
+    /**
+     * 프로젝트 상세 정보 일괄 추가 (여러 이미지 + 설명, JSON 응답)
+     * - 파일은 병렬로 검증/저장하고, 상세 정보는 한 트랜잭션에서 저장합니다.
+     * - 일부 파일이 실패해도 나머지는 저장되며 파일별 결과를 반환합니다.
+     * - descriptions는 요청 파라미터 값을 그대로 읽습니다. (@RequestParam List/배열로 받으면 값이 하나일 때 쉼표로 나뉨)
+     */
+    @PostMapping("/project/{projectId}/details/batch")
+    public ResponseEntity<Map<String, Object>> addProjectDetails(
+            @PathVariable Long projectId,
+            @RequestParam("detailImages") List<MultipartFile> detailImages,
+            HttpServletRequest request) {
+        try {
+            String[] descriptionValues = request.getParameterValues("descriptions");
+            List<String> descriptions = descriptionValues != null ? Arrays.asList(descriptionValues) : null;
+            List<ProjectDetailUploadResult> results = projectDetailBatchUploader.upload(projectId, detailImages, descriptions);
+            long succeeded = results.stream().filter(ProjectDetailUploadResult::isSuccess).count();
+
+            Map<String, Object> data = new HashMap<>();
+            data.put("results", results);
+            data.put("succeeded", succeeded);
+            data.put("failed", results.size() - succeeded);
+            return createSuccessResponse("상세 정보 " + succeeded + "건이 추가되었습니다.", data);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("프로젝트 상세 정보 일괄 추가 실패", e);
+            return createErrorResponse("상세 정보 일괄 추가 중 오류가 발생했습니다: " + e.getMessage(), null);
+        }
+    }
+
+    /**
+     * 프로젝트의 상세 정보 전체 삭제 (JSON 응답)
+     */
+    @PostMapping("/project/{projectId}/details/delete")
+    public ResponseEntity<Map<String, Object>> deleteProjectDetails(@PathVariable Long projectId) {
+        try {
+            int deleted = portfolioService.deleteProjectDetails(projectId);
+            Map<String, Object> data = new HashMap<>();
+            data.put("deleted", deleted);
+            return createSuccessResponse("상세 정보 " + deleted + "건이 삭제되었습니다.", data);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("프로젝트 상세 정보 전체 삭제 실패", e);
+            return createErrorResponse("상세 정보 삭제 중 오류가 발생했습니다: " + e.getMessage(), null);
+        }
+    }
+
     /**
      * 프로젝트 상세 정보 삭제
      */
@@ -491,6 +586,148 @@ public class AdminController {
         }
     }
 
+    // ==================== 캐시 관리 ====================
+
+    /**
+     * 캐시 적중률 통계 조회
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> cacheStats() {
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("version", snapshotCache.currentVersion());
+        snapshot.put("hits", snapshotCache.getHitCount());
+        snapshot.put("misses", snapshotCache.getMissCount());
+
+        Map<String, Object> page = new HashMap<>();
+        page.put("enabled", pageOutputCache.isEnabled());
+        page.put("hits", pageOutputCache.getHitCount());
+        page.put("misses", pageOutputCache.getMissCount());
+        page.put("notModified", pageOutputCache.getNotModifiedCount());
+        page.put("cachedBytes", pageOutputCache.getCachedBytes());
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("snapshot", snapshot);
+        data.put("page", page);
+        data.put("resized", resizedImageService.getStats());
+        data.put("imageAssets", imageAssetIndex.getStats());
+        data.put("secondLevel", entityCacheStatistics.getStats());
+        return createSuccessResponse("캐시 통계 조회 완료", data);
+    }
+
+    /**
+     * Hibernate 2차 캐시 비우기 (DB를 직접 수정한 경우)
+     */
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Map<String, Object>> evictEntityCache() {
+        entityCacheStatistics.evictAll();
+        return createSuccessResponse("2차 캐시를 비웠습니다.", entityCacheStatistics.getStats());
+    }
+
+    /**
+     * 요청/서비스 메서드별 SQL 문장 수 조회 (예산 초과 횟수 포함)
+     */
+    @GetMapping("/sql/stats")
+    public ResponseEntity<Map<String, Object>> sqlStatementStats() {
+        return createSuccessResponse("SQL 문장 수 통계 조회 완료", sqlStatementBudget.getStats());
+    }
+
+    /**
+     * SQL 문장 수 통계 초기화 (변경 전후 비교용)
+     */
+    @PostMapping("/sql/stats/reset")
+    public ResponseEntity<Map<String, Object>> resetSqlStatementStats() {
+        sqlStatementBudget.reset();
+        return createSuccessResponse("SQL 문장 수 통계를 초기화했습니다.", null);
+    }
+
+    /**
+     * 썸네일 작업 상태 조회
+     */
+    @GetMapping("/thumbnails/status")
+    public ResponseEntity<Map<String, Object>> thumbnailStatus() {
+        return createSuccessResponse("썸네일 작업 상태 조회 완료", thumbnailService.getStats());
+    }
+
+    /**
+     * 썸네일 일괄 재생성 상태 조회 (진행률, 처리 속도)
+     */
+    @GetMapping("/thumbnails/regenerate")
+    public ResponseEntity<Map<String, Object>> thumbnailRegenerationStatus() {
+        return createSuccessResponse("썸네일 재생성 상태 조회 완료", thumbnailRegenerationJob.getStatus());
+    }
+
+    /**
+     * 썸네일 일괄 재생성 시작 (백그라운드, fresh=true면 체크포인트를 버리고 처음부터)
+     */
+    @PostMapping("/thumbnails/regenerate")
+    public ResponseEntity<Map<String, Object>> regenerateThumbnails(
+            @RequestParam(value = "fresh", defaultValue = "false") boolean fresh) {
+        boolean started = thumbnailRegenerationJob.startInBackground(fresh);
+        return createSuccessResponse(started ? "썸네일 재생성을 시작했습니다." : "이미 재생성 작업이 실행 중입니다.",
+                thumbnailRegenerationJob.getStatus());
+    }
+
+    /**
+     * 파일 삭제 큐 상태 조회
+     */
+    @GetMapping("/files/deletions")
+    public ResponseEntity<Map<String, Object>> fileDeletionStatus() {
+        return createSuccessResponse("파일 삭제 큐 상태 조회 완료", fileDeletionQueue.getStats());
+    }
+
+    /**
+     * 샤드 디렉토리 이동 상태 조회
+     */
+    @GetMapping("/files/layout")
+    public ResponseEntity<Map<String, Object>> storageLayoutStatus() {
+        return createSuccessResponse("저장소 디렉토리 이동 상태 조회 완료", storageLayoutMigrator.getStats());
+    }
+
+    /**
+     * 평면 디렉토리에 남은 파일을 샤드로 이동 (백그라운드 실행)
+     */
+    @PostMapping("/files/layout/migrate")
+    public ResponseEntity<Map<String, Object>> migrateStorageLayout() {
+        boolean started = storageLayoutMigrator.startInBackground();
+        return createSuccessResponse(started ? "저장소 디렉토리 이동을 시작했습니다." : "이미 이동 작업이 실행 중입니다.",
+                storageLayoutMigrator.getStats());
+    }
+
+    /**
+     * 포트폴리오 전체를 JSON 파일로 내보내기 (스트리밍 출력)
+     */
+    @GetMapping("/portfolio/{portfolioId}/export")
+    public void exportPortfolio(@PathVariable Long portfolioId, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"portfolio-" + portfolioId + ".json\"");
+        try {
+            portfolioTransferService.export(portfolioId, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            // 포트폴리오가 없으면 출력 전에 실패하므로 응답을 오류로 바꿀 수 있음
+            response.reset();
+            response.sendError(HttpStatus.NOT_FOUND.value(), e.getMessage());
+        }
+    }
+
+    /**
+     * 내보낸 JSON으로 현재 포트폴리오 교체 (요청 본문을 스트리밍으로 읽어 배치 저장)
+     * - 기본 정보를 덮어쓰고 하위 데이터를 모두 바꾸므로, 공개 페이지와 관리자 화면에 바로 반영됩니다.
+     * - 이미지 파일은 옮기지 않으므로 /images/ URL은 이 환경에 같은 파일이 있어야 하며, 없으면 가져오지 않습니다.
+     */
+    @PostMapping(value = "/portfolio/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> importPortfolio(HttpServletRequest request) {
+        try {
+            Map<String, Object> result = portfolioTransferService.importPortfolio(1L, request.getInputStream());
+            return createSuccessResponse("포트폴리오를 가져왔습니다. (" + result.get("rows") + "행)", result);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("포트폴리오 가져오기 실패", e);
+            return createErrorResponse("포트폴리오 가져오기 중 오류가 발생했습니다: " + e.getMessage(), null);
+        }
+    }
+
     // ==================== 유틸리티 메서드 ====================
 
     /**
@@ -0,0 +1,102 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ChunkedUploadInitRequest;
+import com.example.demo.service.ChunkedUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 분할 업로드 API (관리자 전용)
+ * - POST   /admin/uploads                      업로드 시작 (file_name, content_type, total_size)
+ * - PUT    /admin/uploads/{id}?offset=N         조각 업로드 (application/octet-stream 본문)
+ * - GET    /admin/uploads/{id}                  수신 크기 조회 (재개 시 offset)
+ * - POST   /admin/uploads/{id}/complete?target=profile|thumbnail|detail&targetId=N[&description=...]
+ *                                              완료 후 저장하고 대상에 연결, 이미지 URL 반환
+ * - DELETE /admin/uploads/{id}                  취소
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> start(@RequestBody ChunkedUploadInitRequest request) throws IOException {
+        try {
+            ChunkedUploadService.UploadSession session = chunkedUploadService.start(
+                    request.getFileName(), request.getContentType(), request.getTotalSize());
+            return createResponse(HttpStatus.CREATED, true, "분할 업로드를 시작했습니다.", session.toMap());
+        } catch (IllegalArgumentException e) {
+            return createResponse(HttpStatus.BAD_REQUEST, false, e.getMessage(), null);
+        }
+    }
+
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Object>> appendChunk(@PathVariable String uploadId,
+                                                           @RequestParam long offset,
+                                                           HttpServletRequest request) throws IOException {
+        try {
+            ChunkedUploadService.UploadSession session = chunkedUploadService.appendChunk(uploadId, offset, request.getInputStream());
+            return createResponse(HttpStatus.OK, true, "조각을 저장했습니다.", session.toMap());
+        } catch (IllegalStateException e) {
+            // offset 불일치: 현재 수신 크기를 함께 돌려주어 재개할 수 있게 함
+            return createResponse(HttpStatus.CONFLICT, false, e.getMessage(), chunkedUploadService.getSession(uploadId).toMap());
+        } catch (IllegalArgumentException e) {
+            return createResponse(HttpStatus.BAD_REQUEST, false, e.getMessage(), null);
+        }
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<Map<String, Object>> status(@PathVariable String uploadId) {
+        try {
+            return createResponse(HttpStatus.OK, true, "업로드 상태 조회 완료", chunkedUploadService.getSession(uploadId).toMap());
+        } catch (IllegalArgumentException e) {
+            return createResponse(HttpStatus.NOT_FOUND, false, e.getMessage(), null);
+        }
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<Map<String, Object>> complete(@PathVariable String uploadId,
+                                                        @RequestParam String target,
+                                                        @RequestParam Long targetId,
+                                                        @RequestParam(required = false) String description) throws IOException {
+        try {
+            String url = chunkedUploadService.complete(uploadId, ChunkedUploadService.Target.from(target), targetId, description);
+            Map<String, Object> data = new HashMap<>();
+            data.put("url", url);
+            return createResponse(HttpStatus.OK, true, "업로드가 완료되었습니다.", data);
+        } catch (IllegalStateException e) {
+            return createResponse(HttpStatus.CONFLICT, false, e.getMessage(), chunkedUploadService.getSession(uploadId).toMap());
+        } catch (IllegalArgumentException e) {
+            return createResponse(HttpStatus.BAD_REQUEST, false, e.getMessage(), null);
+        }
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Map<String, Object>> abort(@PathVariable String uploadId) throws IOException {
+        chunkedUploadService.abort(uploadId);
+        return createResponse(HttpStatus.OK, true, "업로드를 취소했습니다.", null);
+    }
+
+    private ResponseEntity<Map<String, Object>> createResponse(HttpStatus status, boolean success, String message,
+                                                               Map<String, Object> data) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", success);
+        response.put("message", message);
+        if (data != null) {
+            response.put("data", data);
+        }
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 파일 제공
+ * - 클래스패스가 아닌 FileStorageService의 저장 경로에서 직접 읽으므로, 패키징된 jar에서도 새 업로드가 보입니다.
+ * - 본문은 Tomcat sendfile(가능한 경우) 또는 FileChannel.transferTo로 힙 버퍼를 거치지 않고 전송합니다.
+ * - 단일 Range 요청(206), 강한 ETag(304)를 지원하며, 콘텐츠 주소 원본 파일명은 immutable로 캐시합니다.
+ * - 썸네일은 재생성되면 같은 이름으로 내용이 바뀌므로, 크기/수정 시각 ETag로 재검증합니다.
+ * - 저장 경로에 없는 파일은 클래스패스 static/images의 기본 이미지로 대체합니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ImageFileController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "webp", "image/webp"
+    );
+
+    private final FileStorageService fileStorageService;
+
+    @RequestMapping(value = "/images/{fileName:.+}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getImage(@PathVariable String fileName, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Path path = fileStorageService.resolveStoredImage(fileName);
+        if (!Files.isRegularFile(path)) {
+            serveClasspathImage("static/images/" + fileName, fileName, request, response);
+            return;
+        }
+        serveFile(path, fileName, contentTypeOf(fileName), request, response);
+    }
+
+    @RequestMapping(value = "/images/thumbnails/{fileName:.+}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getThumbnail(@PathVariable String fileName, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        Path path = fileStorageService.resolveThumbnailImage(fileName);
+        if (!Files.isRegularFile(path)) {
+            serveClasspathImage("static/images/thumbnails/" + fileName, fileName, request, response);
+            return;
+        }
+        serveFile(path, fileName, contentTypeOf(fileName), request, response);
+    }
+
+    /**
+     * 저장 경로의 파일 전송 (조건부 요청, Range 처리 포함)
+     */
+    private void serveFile(Path path, String fileName, String contentType, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = etagOf(fileName, length, lastModified);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlOf(fileName).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        long[] range = parseRange(request, etag, length);
+        if (range != null) {
+            if (range.length == 0) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            start = range[0];
+            end = range[1];
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long contentLength = end - start + 1;
+        response.setContentType(contentType);
+        response.setContentLengthLong(contentLength);
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || contentLength == 0) {
+            return;
+        }
+
+        // Tomcat이 소켓으로 직접 전송 (커널 sendfile)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = contentLength;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * 클래스패스 기본 이미지 전송 (저장 경로에 없는 경우)
+     */
+    private void serveClasspathImage(String location, String fileName, HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        ClassPathResource resource = new ClassPathResource(location);
+        if (!resource.exists()) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long length = resource.contentLength();
+        long lastModified = resource.lastModified();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlOf(fileName).getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etagOf(fileName, length, lastModified), lastModified)) {
+            return;
+        }
+
+        response.setContentType(contentTypeOf(fileName));
+        response.setContentLengthLong(length);
+        if (RequestMethod.HEAD.name().equals(request.getMethod())) {
+            return;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    /**
+     * 단일 Range 헤더 해석
+     * - null: 전체 전송 (Range 없음, 다중 범위, If-Range 불일치)
+     * - 빈 배열: 만족할 수 없는 범위 (416)
+     */
+    private long[] parseRange(HttpServletRequest request, String etag, long length) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !rangeHeader.startsWith("bytes=") || rangeHeader.contains(",")) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return null;
+        }
+
+        String spec = rangeHeader.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                // 마지막 N 바이트
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix == 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? length - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+            }
+            if (start >= length || start > end) {
+                return new long[0];
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 강한 ETag (콘텐츠 주소 원본 파일명은 이름 자체가 해시, 그 외에는 크기와 수정 시각)
+     */
+    private String etagOf(String fileName, long length, long lastModified) {
+        if (FileStorageService.isContentAddressed(fileName)) {
+            return "\"" + fileName.substring(0, fileName.lastIndexOf('.')) + "\"";
+        }
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    private CacheControl cacheControlOf(String fileName) {
+        if (FileStorageService.isContentAddressed(fileName)) {
+            return CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+        }
+        return CacheControl.maxAge(1, TimeUnit.DAYS).mustRevalidate();
+    }
+
+    private String contentTypeOf(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+}
@@ -1,27 +1,152 @@
 package com.example.demo.controller;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.servlet.View;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
 
+import com.example.demo.service.PageOutputCache;
 import com.example.demo.service.PortfolioService;
+import com.example.demo.service.PortfolioSnapshotCache;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+
 
 @Controller
 @RequiredArgsConstructor
 public class PortfolioController {
-    
+
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
     private final PortfolioService portfolioService;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final PageOutputCache pageOutputCache;
+    private final ThymeleafViewResolver thymeleafViewResolver;
 
     @GetMapping("/") // 웹사이트의 메인 페이지("/") 요청을 처리합니다.
-    public String home(Model model) {
-        // Service를 통해 ID가 1인 포트폴리오 정보를 조회합니다.
-        model.addAttribute("portfolio", portfolioService.findPortfolio(1L));
-        return "index"; // templates/index.html 파일을 찾아 렌더링합니다.
+    public String home(Model model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        // 로그인 사용자는 메뉴가 달라지므로 출력 캐시를 사용하지 않습니다.
+        if (!pageOutputCache.isEnabled() || !isAnonymous()) {
+            // Service를 통해 ID가 1인 포트폴리오 정보를 조회합니다.
+            model.addAttribute("portfolio", portfolioService.findPortfolio(1L));
+            return "index"; // templates/index.html 파일을 찾아 렌더링합니다.
+        }
+
+        // 렌더링 전에 버전을 읽어, 렌더링 중 변경이 생기면 다음 요청에서 다시 렌더링되도록 합니다.
+        long version = snapshotCache.currentVersion();
+        PageOutputCache.CachedPage page = pageOutputCache.get(version);
+        if (page == null) {
+            page = renderHomePage(version, request, response);
+        }
+        writeCachedPage(page, request, response);
+        return null;
+    }
+
+    /**
+     * 메인 페이지를 렌더링하여 출력 캐시에 저장
+     */
+    private PageOutputCache.CachedPage renderHomePage(long version, HttpServletRequest request,
+                                                      HttpServletResponse response) throws Exception {
+        View view = thymeleafViewResolver.resolveViewName("index", request.getLocale());
+
+        // 세션 ID가 URL에 섞여 다른 방문자에게 공유되지 않도록 URL 인코딩을 막습니다.
+        ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response) {
+            @Override
+            public String encodeURL(String url) {
+                return url;
+            }
+
+            @Override
+            public String encodeRedirectURL(String url) {
+                return url;
+            }
+        };
+        view.render(Map.of("portfolio", portfolioService.findPortfolio(1L)), request, capture);
+
+        String contentType = capture.getContentType() != null ? capture.getContentType() : "text/html;charset=UTF-8";
+        return pageOutputCache.put(version, capture.getContentAsByteArray(), contentType);
+    }
+
+    /**
+     * 캐시된 페이지 응답 (ETag 일치 시 304)
+     */
+    private void writeCachedPage(PageOutputCache.CachedPage page, HttpServletRequest request,
+                                 HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = page.etag(gzip);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            pageOutputCache.recordNotModified();
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        ByteBuffer body = (gzip ? page.gzipBody() : page.identityBody()).duplicate();
+        response.setContentType(page.contentType());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.remaining());
+
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+        response.flushBuffer();
+    }
+
+    private boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || TRUST_RESOLVER.isAnonymous(authentication);
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    
-    
 }
@@ -0,0 +1,51 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ProjectDetailPageResponse;
+import com.example.demo.service.PortfolioService;
+import com.example.demo.service.PortfolioSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 프로젝트 상세 정보 JSON API
+ * - 메인 페이지 모달이 열릴 때 상세 이미지/설명을 페이지 단위로 불러옵니다.
+ */
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+public class ProjectDetailApiController {
+
+    private static final int DEFAULT_PAGE_SIZE = 6;
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final PortfolioService portfolioService;
+    private final PortfolioSnapshotCache snapshotCache;
+
+    /**
+     * 프로젝트 상세 정보 조회 (after: 마지막으로 받은 상세 정보 ID)
+     */
+    @GetMapping("/{projectId}/details")
+    public ResponseEntity<ProjectDetailPageResponse> getDetails(
+            @PathVariable Long projectId,
+            @RequestParam(value = "after", defaultValue = "0") Long afterId,
+            @RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 콘텐츠 버전이 같으면 DB 조회 없이 304 응답
+        String etag = "\"d" + snapshotCache.currentVersion() + "-" + projectId + "-" + afterId + "-" + pageSize + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ProjectDetailPageResponse page = portfolioService.findProjectDetailPage(projectId, afterId, pageSize);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(page);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.ResizedImageService;
+import com.example.demo.service.ResizedImageService.ResizedImage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 시점 이미지 리사이즈
+ * - 예: /images/r/800x600/sample.jpg?v=q85pz9r2 (허용된 크기만 처리)
+ * - v(인코더 설정 지문)가 현재 설정과 같을 때만 오래 캐시합니다. 설정이 바뀌면 페이지의 URL도 바뀝니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ResizedImageController {
+
+    private final ResizedImageService resizedImageService;
+
+    @GetMapping("/images/r/{width:\\d+}x{height:\\d+}/{fileName:.+}")
+    public ResponseEntity<byte[]> getResizedImage(
+            @PathVariable int width,
+            @PathVariable int height,
+            @PathVariable String fileName,
+            @RequestParam(name = "v", required = false) String version,
+            WebRequest webRequest) throws IOException {
+
+        if (!resizedImageService.isAvailable(fileName, width, height)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 저장된 파일명은 내용마다 고유하므로, 파일명과 크기, 인코더 설정으로 ETag를 만들 수 있음
+        String renderVersion = resizedImageService.getRenderVersion();
+        String etag = "\"r" + width + "x" + height + "-" + renderVersion + "-" + fileName + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        ResizedImage image = resizedImageService.getResized(fileName, width, height);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .cacheControl(renderVersion.equals(version)
+                        ? CacheControl.maxAge(30, TimeUnit.DAYS).cachePublic()
+                        : CacheControl.noCache().cachePublic())
+                .eTag(etag)
+                .body(image.content());
+    }
+}
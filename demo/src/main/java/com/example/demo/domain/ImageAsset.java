@@ -0,0 +1,60 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 이미지 메타데이터 (ImageAssetIndex가 메모리에 캐시)
+ * - 업로드 시 기록하며, 파일 삭제 시 함께 제거합니다.
+ * - width/height는 ImageIO가 읽을 수 없는 형식(WebP 등)이면 null입니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImageAsset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_asset_seq")
+    @SequenceGenerator(name = "image_asset_seq", sequenceName = "ImageAsset_SEQ", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String url; // 공개 URL (/images/...)
+
+    @Column(nullable = false)
+    private String storagePath; // 업로드 디렉토리 기준 상대 경로 (샤드 포함)
+
+    private long sizeBytes;
+
+    private String mimeType;
+
+    private Integer width;
+
+    private Integer height;
+
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(length = 1000)
+    private String variants; // 미리 생성한 썸네일 파일명 (쉼표 구분)
+
+    private LocalDateTime createdAt;
+
+    public ImageAsset(String url, String storagePath, long sizeBytes, String mimeType,
+                      Integer width, Integer height, String sha256, String variants) {
+        this.url = url;
+        this.storagePath = storagePath;
+        this.sizeBytes = sizeBytes;
+        this.mimeType = mimeType;
+        this.width = width;
+        this.height = height;
+        this.sha256 = sha256;
+        this.variants = variants;
+        this.createdAt = LocalDateTime.now();
+    }
+}
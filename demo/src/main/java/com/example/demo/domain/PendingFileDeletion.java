@@ -0,0 +1,42 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 대기 중인 업로드 파일 (파일 삭제 아웃박스)
+ * - 참조 해제와 같은 트랜잭션에서 기록되므로, 롤백되면 삭제 요청도 함께 사라집니다.
+ * - 커밋 후 FileDeletionQueue가 처리하며, 재시작 후에도 남은 행을 이어서 처리합니다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_pending_file_deletion_next_attempt", columnList = "nextAttemptAt"))
+public class PendingFileDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_file_deletion_seq")
+    @SequenceGenerator(name = "pending_file_deletion_seq", sequenceName = "PendingFileDeletion_SEQ", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String imageUrl; // 삭제할 이미지 URL (/images/...)
+
+    private int attempts; // 실패한 시도 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt; // 다음 시도 가능 시각
+
+    @Column(length = 1000)
+    private String lastError; // 마지막 실패 사유
+
+    public PendingFileDeletion(String imageUrl, LocalDateTime nextAttemptAt) {
+        this.imageUrl = imageUrl;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,13 +11,19 @@ import java.util.HashSet;
 import java.util.Set;    
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
 public class PortfolioData {
 
+    // 프로필 이미지가 없을 때 사용하는 기본 이미지 (배포 파일)
+    public static final String DEFAULT_PROFILE_IMAGE_URL = "/images/default-profile.png";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "portfolio_data_seq")
+    @SequenceGenerator(name = "portfolio_data_seq", sequenceName = "PortfolioData_SEQ", allocationSize = 50)
     private Long id;
 
     // --- 기본 정보 ---
@@ -31,18 +39,23 @@ public class PortfolioData {
     private String profileImageUrl;
 
     // --- 연관 관계 (List -> Set 으로 변경) ---
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "portfolioData", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Skill> skills = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "portfolioData", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Project> projects = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "portfolioData", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Education> educations = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "portfolioData", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Career> careers = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "portfolioData", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Certification> certifications = new HashSet<>();
 
@@ -56,6 +69,6 @@ public class PortfolioData {
         this.email = email;
         this.phone = phone;
         this.githubUrl = githubUrl;
-        this.profileImageUrl = "/images/default-profile.png";
+        this.profileImageUrl = DEFAULT_PROFILE_IMAGE_URL;
     }
 }
@@ -18,4 +18,13 @@ public class CareerDto {
         this.period = career.getPeriod();
         this.description = career.getDescription();
     }
+
+    // JPQL 생성자 표현식(프로젝션)용
+    public CareerDto(Long id, String company, String position, String period, String description) {
+        this.id = id;
+        this.company = company;
+        this.position = position;
+        this.period = period;
+        this.description = description;
+    }
 }
@@ -16,4 +16,12 @@ public class CertificationDto {
         this.issuer = certification.getIssuer();
         this.acquisitionDate = certification.getAcquisitionDate();
     }
-}
\ No newline at end of file
+
+    // JPQL 생성자 표현식(프로젝션)용
+    public CertificationDto(Long id, String name, String issuer, String acquisitionDate) {
+        this.id = id;
+        this.name = name;
+        this.issuer = issuer;
+        this.acquisitionDate = acquisitionDate;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 분할 업로드 시작 요청 (file_name, content_type, total_size)
+ */
+@Getter
+@Setter
+public class ChunkedUploadInitRequest {
+    private String fileName;
+    private String contentType;
+    private long totalSize;
+}
@@ -18,4 +18,13 @@ public class EducationDto {
         this.period = education.getPeriod();
         this.description = education.getDescription();
     }
-}
\ No newline at end of file
+
+    // JPQL 생성자 표현식(프로젝션)용
+    public EducationDto(Long id, String institution, String course, String period, String description) {
+        this.id = id;
+        this.institution = institution;
+        this.course = course;
+        this.period = period;
+        this.description = description;
+    }
+}
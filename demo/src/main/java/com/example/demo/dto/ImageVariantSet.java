@@ -0,0 +1,56 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 반응형 이미지 변형 묶음 (srcset/sizes 출력용)
+ * - src는 srcset을 지원하지 않는 환경을 위한 기본 이미지(원본)입니다.
+ * - width/height는 원본 해상도로, img 속성에 넣어 레이아웃 이동을 막습니다. (모르면 null)
+ */
+@Getter
+public class ImageVariantSet {
+    private final String src;
+    private final Integer width;
+    private final Integer height;
+    private final List<Variant> variants;
+
+    public ImageVariantSet(String src, List<Variant> variants) {
+        this(src, null, null, variants);
+    }
+
+    public ImageVariantSet(String src, Integer width, Integer height, List<Variant> variants) {
+        this.src = src;
+        this.width = width;
+        this.height = height;
+        this.variants = List.copyOf(variants);
+    }
+
+    /**
+     * "url 200w, url 800w" 형식의 srcset 값 (변형이 없으면 null)
+     */
+    public String getSrcset() {
+        if (variants.isEmpty()) {
+            return null;
+        }
+        return variants.stream()
+                .map(variant -> variant.getUrl() + " " + variant.getWidth() + "w")
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 크기별 이미지 URL과 가로 픽셀 폭
+     */
+    @Getter
+    public static class Variant {
+        private final String url;
+        private final int width;
+
+        public Variant(String url, int width) {
+            this.url = url;
+            this.width = width;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+/**
+ * 포트폴리오 기본 정보 프로젝션 (엔티티를 거치지 않고 조회 결과로 바로 생성)
+ */
+@Getter
+public class PortfolioProfileDto {
+    private final Long id;
+    private final String name;
+    private final String jobTitle;
+    private final String philosophy;
+    private final String birth;
+    private final String address;
+    private final String email;
+    private final String phone;
+    private final String githubUrl;
+    private final String profileImageUrl;
+
+    public PortfolioProfileDto(Long id, String name, String jobTitle, String philosophy, String birth,
+                               String address, String email, String phone, String githubUrl, String profileImageUrl) {
+        this.id = id;
+        this.name = name;
+        this.jobTitle = jobTitle;
+        this.philosophy = philosophy;
+        this.birth = birth;
+        this.address = address;
+        this.email = email;
+        this.phone = phone;
+        this.githubUrl = githubUrl;
+        this.profileImageUrl = profileImageUrl;
+    }
+}
@@ -6,12 +6,36 @@ import lombok.Getter;
 @Getter
 public class ProjectDetailDto {
     private final Long id;
+    private final Long projectId;
     private final String imageUrl;
     private final String description;
+    private final ImageVariantSet image; // 반응형 이미지 변형 (withImage로 채움)
 
     public ProjectDetailDto(ProjectDetail detail) {
         this.id = detail.getId();
+        this.projectId = detail.getProject() != null ? detail.getProject().getId() : null;
         this.imageUrl = detail.getImageUrl();
         this.description = detail.getDescription();
+        this.image = null;
     }
-}
\ No newline at end of file
+
+    // JPQL 생성자 표현식(프로젝션)용
+    public ProjectDetailDto(Long id, Long projectId, String imageUrl, String description) {
+        this(id, projectId, imageUrl, description, null);
+    }
+
+    private ProjectDetailDto(Long id, Long projectId, String imageUrl, String description, ImageVariantSet image) {
+        this.id = id;
+        this.projectId = projectId;
+        this.imageUrl = imageUrl;
+        this.description = description;
+        this.image = image;
+    }
+
+    /**
+     * 반응형 이미지 변형을 채운 새 DTO 반환
+     */
+    public ProjectDetailDto withImage(ImageVariantSet image) {
+        return new ProjectDetailDto(id, projectId, imageUrl, description, image);
+    }
+}
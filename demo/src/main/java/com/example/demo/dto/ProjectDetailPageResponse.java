@@ -0,0 +1,20 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 프로젝트 상세 정보 페이지 응답
+ * - nextCursor가 null이면 마지막 페이지입니다.
+ */
+@Getter
+public class ProjectDetailPageResponse {
+    private final List<ProjectDetailDto> details;
+    private final Long nextCursor;
+
+    public ProjectDetailPageResponse(List<ProjectDetailDto> details, Long nextCursor) {
+        this.details = details;
+        this.nextCursor = nextCursor;
+    }
+}
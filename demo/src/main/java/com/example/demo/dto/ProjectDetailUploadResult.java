@@ -0,0 +1,35 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+
+/**
+ * 프로젝트 상세 이미지 일괄 업로드의 파일별 결과
+ * - 실패한 파일은 imageUrl/detailId가 null이고 error에 사유가 담깁니다.
+ */
+@Getter
+public class ProjectDetailUploadResult {
+    private final int index;
+    private final String fileName;
+    private final boolean success;
+    private final String imageUrl;
+    private final Long detailId;
+    private final String error;
+
+    private ProjectDetailUploadResult(int index, String fileName, boolean success,
+                                      String imageUrl, Long detailId, String error) {
+        this.index = index;
+        this.fileName = fileName;
+        this.success = success;
+        this.imageUrl = imageUrl;
+        this.detailId = detailId;
+        this.error = error;
+    }
+
+    public static ProjectDetailUploadResult stored(int index, String fileName, String imageUrl, Long detailId) {
+        return new ProjectDetailUploadResult(index, fileName, true, imageUrl, detailId, null);
+    }
+
+    public static ProjectDetailUploadResult failed(int index, String fileName, String error) {
+        return new ProjectDetailUploadResult(index, fileName, false, null, null, error);
+    }
+}
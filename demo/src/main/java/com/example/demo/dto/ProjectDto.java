@@ -17,6 +17,7 @@ public class ProjectDto {
     private final String teamInfo;
     private final String thumbnailUrl;
     private final List<ProjectDetailDto> details;
+    private final ImageVariantSet thumbnail; // 반응형 썸네일 변형 (withThumbnail로 채움)
 
     public ProjectDto(Project project) {
         this.id = project.getId();
@@ -32,5 +33,34 @@ public class ProjectDto {
                 .map(ProjectDetailDto::new)
                 .sorted(Comparator.comparing(ProjectDetailDto::getId))
                 .collect(Collectors.toList());
+        this.thumbnail = null;
     }
-}
\ No newline at end of file
+
+    // JPQL 생성자 표현식(프로젝션)용 - 상세 정보는 비워 둡니다. (/api/projects/{id}/details로 조회)
+    public ProjectDto(Long id, String name, String period, String description, String techStack,
+                      String projectUrl, String teamInfo, String thumbnailUrl) {
+        this(id, name, period, description, techStack, projectUrl, teamInfo, thumbnailUrl, List.of(), null);
+    }
+
+    private ProjectDto(Long id, String name, String period, String description, String techStack,
+                       String projectUrl, String teamInfo, String thumbnailUrl, List<ProjectDetailDto> details,
+                       ImageVariantSet thumbnail) {
+        this.id = id;
+        this.name = name;
+        this.period = period;
+        this.description = description;
+        this.techStack = techStack;
+        this.projectUrl = projectUrl;
+        this.teamInfo = teamInfo;
+        this.thumbnailUrl = thumbnailUrl;
+        this.details = details;
+        this.thumbnail = thumbnail;
+    }
+
+    /**
+     * 반응형 썸네일 변형을 채운 새 DTO 반환
+     */
+    public ProjectDto withThumbnail(ImageVariantSet thumbnail) {
+        return new ProjectDto(id, name, period, description, techStack, projectUrl, teamInfo, thumbnailUrl, details, thumbnail);
+    }
+}
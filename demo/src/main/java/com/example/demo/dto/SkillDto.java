@@ -14,4 +14,11 @@ public class SkillDto {
         this.category = skill.getCategory();
         this.name = skill.getName();
     }
-}
\ No newline at end of file
+
+    // JPQL 생성자 표현식(프로젝션)용
+    public SkillDto(Long id, String category, String name) {
+        this.id = id;
+        this.category = category;
+        this.name = name;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.event;
+
+/**
+ * 이미지 참조 해제 이벤트
+ * - 삭제 요청(PendingFileDeletion)이 기록되었음을 알리며, 트랜잭션 커밋 후 파일 삭제 작업을 깨웁니다.
+ */
+public record ImageReleasedEvent(String imageUrl) {
+}
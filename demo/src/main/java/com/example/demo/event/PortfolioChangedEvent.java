@@ -0,0 +1,8 @@
+package com.example.demo.event;
+
+/**
+ * 포트폴리오 데이터 변경 이벤트
+ * - PortfolioService의 쓰기 작업에서 발행되며, 트랜잭션 커밋 후 캐시 무효화에 사용됩니다.
+ */
+public record PortfolioChangedEvent(String reason) {
+}
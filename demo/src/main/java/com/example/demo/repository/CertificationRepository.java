@@ -1,7 +1,28 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Certification;
+import com.example.demo.dto.CertificationDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface CertificationRepository extends JpaRepository<Certification, Long> {
+
+    // 공개 페이지용 프로젝션 조회 (엔티티 영속화 없이 DTO로 바로 생성)
+    @Query("select new com.example.demo.dto.CertificationDto(c.id, c.name, c.issuer, c.acquisitionDate) " +
+           "from Certification c where c.portfolioData.id = :portfolioId")
+    List<CertificationDto> findDtosByPortfolioId(Long portfolioId);
+
+    // 키셋 페이지네이션: 내보내기 시 ID 순으로 나눠 조회 (메모리 사용량 일정)
+    @Query("select new com.example.demo.dto.CertificationDto(c.id, c.name, c.issuer, c.acquisitionDate) " +
+           "from Certification c where c.portfolioData.id = :portfolioId and c.id > :afterId order by c.id")
+    List<CertificationDto> findDtosAfter(Long portfolioId, Long afterId, Pageable pageable);
+
+    // 가져오기 시 기존 항목 일괄 삭제 (영속성 컨텍스트는 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Certification c where c.portfolioData.id = :portfolioId")
+    int deleteByPortfolioId(Long portfolioId);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.ImageAsset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ImageAssetRepository extends JpaRepository<ImageAsset, Long> {
+
+    Optional<ImageAsset> findByUrl(String url);
+
+    // 파일 삭제 시 메타데이터 제거
+    @Transactional
+    @Modifying
+    @Query("delete from ImageAsset a where a.url = :url")
+    int deleteByUrl(String url);
+}
@@ -0,0 +1,16 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.PendingFileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    // 시도 가능 시각이 지난 삭제 요청을 오래된 순으로 조회
+    @Query("select p from PendingFileDeletion p where p.nextAttemptAt <= :now order by p.id")
+    List<PendingFileDeletion> findDue(LocalDateTime now, Pageable pageable);
+}
@@ -4,18 +4,23 @@ package com.example.demo.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import com.example.demo.domain.PortfolioData;
+import com.example.demo.dto.PortfolioProfileDto;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PortfolioDataRepository extends JpaRepository<PortfolioData, Long>  {
 
-    // 포트폴리오 데이터를 불러올 때 모든 연관 데이터를 한번에 가져오는 JPQL 쿼리
-      @Query("SELECT DISTINCT p FROM PortfolioData p " +
-           "LEFT JOIN FETCH p.skills " +
-           "LEFT JOIN FETCH p.projects " +
-           "LEFT JOIN FETCH p.educations " +
-           "LEFT JOIN FETCH p.careers " +
-           "LEFT JOIN FETCH p.certifications " +
-           "WHERE p.id = :id")
-    Optional<PortfolioData> findPortfolioWithDetailsById(Long id);
+    // 공개 페이지용 기본 정보 프로젝션 조회
+    @Query("select new com.example.demo.dto.PortfolioProfileDto(" +
+           "p.id, p.name, p.jobTitle, p.philosophy, p.birth, p.address, p.email, p.phone, p.githubUrl, p.profileImageUrl) " +
+           "from PortfolioData p where p.id = :id")
+    Optional<PortfolioProfileDto> findProfileById(Long id);
+
+    // 같은 이미지를 프로필로 참조하는 포트폴리오 수
+    long countByProfileImageUrl(String profileImageUrl);
+
+    // 프로필로 참조 중인 이미지 URL 목록 (썸네일 재생성 대상)
+    @Query("select distinct p.profileImageUrl from PortfolioData p where p.profileImageUrl is not null")
+    List<String> findDistinctProfileImageUrls();
 }
@@ -1,7 +1,35 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.ProjectDetail;
+import com.example.demo.dto.ProjectDetailDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProjectDetailRepository extends JpaRepository<ProjectDetail, Long> {
+
+    // 키셋 페이지네이션: 마지막으로 받은 ID 이후의 상세 정보를 ID 순으로 조회
+    @Query("select new com.example.demo.dto.ProjectDetailDto(d.id, d.project.id, d.imageUrl, d.description) " +
+           "from ProjectDetail d where d.project.id = :projectId and d.id > :afterId order by d.id")
+    List<ProjectDetailDto> findDtosAfter(Long projectId, Long afterId, Pageable pageable);
+
+    // 같은 이미지를 참조하는 상세 정보 수 (콘텐츠 주소 저장 시 공유 여부 확인)
+    long countByImageUrl(String imageUrl);
+
+    // 상세 정보가 참조 중인 이미지 URL 목록 (썸네일 재생성 대상)
+    @Query("select distinct d.imageUrl from ProjectDetail d where d.imageUrl is not null")
+    List<String> findDistinctImageUrls();
+
+    // 한 프로젝트의 상세 이미지 URL 목록 (일괄 삭제 전 파일 정리 대상)
+    @Query("select d.imageUrl from ProjectDetail d where d.project.id = :projectId")
+    List<String> findImageUrlsByProjectId(Long projectId);
+
+    // 집합 단위 삭제: 프로젝트별로 한 문장 (영속성 컨텍스트는 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ProjectDetail d where d.project.id in :projectIds")
+    int deleteByProjectIdIn(Collection<Long> projectIds);
 }
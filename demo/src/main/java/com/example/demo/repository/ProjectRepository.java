@@ -1,7 +1,44 @@
 package com.example.demo.repository;
 
 import com.example.demo.domain.Project;
+import com.example.demo.dto.ProjectDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    // 공개 페이지용 프로젝션 조회 (엔티티 영속화 없이 DTO로 바로 생성)
+    @Query("select new com.example.demo.dto.ProjectDto(p.id, p.name, p.period, p.description, p.techStack, p.projectUrl, p.teamInfo, p.thumbnailUrl) " +
+           "from Project p where p.portfolioData.id = :portfolioId")
+    List<ProjectDto> findDtosByPortfolioId(Long portfolioId);
+
+    // 키셋 페이지네이션: 내보내기 시 ID 순으로 나눠 조회 (메모리 사용량 일정)
+    @Query("select new com.example.demo.dto.ProjectDto(p.id, p.name, p.period, p.description, p.techStack, p.projectUrl, p.teamInfo, p.thumbnailUrl) " +
+           "from Project p where p.portfolioData.id = :portfolioId and p.id > :afterId order by p.id")
+    List<ProjectDto> findDtosAfter(Long portfolioId, Long afterId, Pageable pageable);
+
+    // 같은 이미지를 썸네일로 참조하는 프로젝트 수
+    long countByThumbnailUrl(String thumbnailUrl);
+
+    // 썸네일로 참조 중인 이미지 URL 목록 (썸네일 재생성 대상)
+    @Query("select distinct p.thumbnailUrl from Project p where p.thumbnailUrl is not null")
+    List<String> findDistinctThumbnailUrls();
+
+    // 포트폴리오의 프로젝트 ID 목록 (가져오기 시 기존 프로젝트 일괄 삭제)
+    @Query("select p.id from Project p where p.portfolioData.id = :portfolioId")
+    List<Long> findIdsByPortfolioId(Long portfolioId);
+
+    // 삭제 대상 프로젝트들의 이미지 URL을 한 번에 조회 (행: [프로젝트 ID, 썸네일 URL, 상세 이미지 URL])
+    @Query("select p.id, p.thumbnailUrl, d.imageUrl from Project p left join p.details d where p.id in :projectIds")
+    List<Object[]> findImageUrlsByIdIn(Collection<Long> projectIds);
+
+    // 집합 단위 삭제 (상세 정보를 먼저 지워야 함, 영속성 컨텍스트는 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Project p where p.id in :projectIds")
+    int deleteByIdIn(Collection<Long> projectIds);
 }
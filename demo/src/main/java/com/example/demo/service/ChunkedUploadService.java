@@ -0,0 +1,265 @@
+// src/main/java/com/example/demo/service/ChunkedUploadService.java
+package com.example.demo.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 분할(재개 가능) 업로드
+ * - 시작 → 조각 업로드(offset 지정) → 완료 순서로 진행합니다.
+ * - 조각은 요청 본문 스트림에서 임시 파일로 바로 기록되며, 전체 파일을 메모리나 multipart 임시 경로에 두지 않습니다.
+ * - 연결이 끊기면 상태 조회로 받은 크기(offset)부터 다시 보내면 됩니다.
+ * - 완료 시 FileStorageService의 일반 저장 절차(해시, 해상도 검사, 썸네일)를 거친 뒤,
+ *   지정한 대상(프로필, 프로젝트 썸네일, 상세 정보)에 바로 연결합니다. (참조 없는 파일이 남지 않도록)
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private final FileStorageService fileStorageService;
+    private final PortfolioService portfolioService;
+    private final FileDeletionQueue fileDeletionQueue;
+    private final long maxFileSize;
+    private final Duration sessionTtl;
+
+    private final ConcurrentMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedUploadService(FileStorageService fileStorageService,
+                                PortfolioService portfolioService,
+                                FileDeletionQueue fileDeletionQueue,
+                                @Value("${app.file.chunked.max-size:104857600}") long maxFileSize,
+                                @Value("${app.file.chunked.session-ttl-minutes:1440}") long sessionTtlMinutes) {
+        this.fileStorageService = fileStorageService;
+        this.portfolioService = portfolioService;
+        this.fileDeletionQueue = fileDeletionQueue;
+        this.maxFileSize = maxFileSize;
+        this.sessionTtl = Duration.ofMinutes(sessionTtlMinutes);
+    }
+
+    /**
+     * 완료된 업로드를 연결할 대상 (targetId: PROFILE은 포트폴리오 ID, 나머지는 프로젝트 ID)
+     */
+    public enum Target {
+        PROFILE, PROJECT_THUMBNAIL, PROJECT_DETAIL;
+
+        /**
+         * 요청 파라미터 값 변환 (profile, thumbnail, detail)
+         */
+        public static Target from(String value) {
+            return switch (value == null ? "" : value.trim().toLowerCase()) {
+                case "profile" -> PROFILE;
+                case "thumbnail" -> PROJECT_THUMBNAIL;
+                case "detail" -> PROJECT_DETAIL;
+                default -> throw new IllegalArgumentException("지원하지 않는 업로드 대상입니다: " + value + " (profile, thumbnail, detail)");
+            };
+        }
+    }
+
+    /**
+     * 업로드 세션 상태
+     */
+    @Getter
+    public static class UploadSession {
+        private final String uploadId;
+        private final String fileName;
+        private final String contentType;
+        private final long totalSize;
+        private final Path tempFile;
+        private volatile long receivedBytes;
+        private volatile Instant lastActivity = Instant.now();
+        private boolean signatureChecked;
+
+        UploadSession(String uploadId, String fileName, String contentType, long totalSize, Path tempFile) {
+            this.uploadId = uploadId;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.totalSize = totalSize;
+            this.tempFile = tempFile;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new HashMap<>();
+            map.put("uploadId", uploadId);
+            map.put("fileName", fileName);
+            map.put("totalSize", totalSize);
+            map.put("receivedBytes", receivedBytes);
+            return map;
+        }
+    }
+
+    /**
+     * 업로드 시작 (파일명/형식/크기 검증 후 빈 임시 파일 생성)
+     */
+    public UploadSession start(String fileName, String contentType, long totalSize) throws IOException {
+        fileStorageService.validateUploadMetadata(fileName, contentType);
+        if (totalSize <= 0) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+        if (totalSize > maxFileSize) {
+            throw new IllegalArgumentException(String.format("파일 크기가 %d MB를 초과할 수 없습니다.", maxFileSize / (1024 * 1024)));
+        }
+
+        String uploadId = UUID.randomUUID().toString().replace("-", "");
+        UploadSession session = new UploadSession(uploadId, fileName, contentType, totalSize,
+                fileStorageService.createUploadTempFile());
+        sessions.put(uploadId, session);
+        log.debug("분할 업로드 시작: {} ({}, {} bytes)", uploadId, fileName, totalSize);
+        return session;
+    }
+
+    /**
+     * 업로드 상태 조회 (재개할 offset = receivedBytes)
+     */
+    public UploadSession getSession(String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            throw new IllegalArgumentException("업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+        return session;
+    }
+
+    /**
+     * 조각 기록
+     * - offset은 지금까지 받은 크기와 같아야 합니다. (다르면 IllegalStateException, 상태 조회 후 재시도)
+     * - 본문을 임시 파일의 offset 위치에 그대로 기록하며, 선언한 전체 크기를 넘을 수 없습니다.
+     */
+    public UploadSession appendChunk(String uploadId, long offset, InputStream body) throws IOException {
+        UploadSession session = getSession(uploadId);
+        synchronized (session) {
+            if (offset != session.receivedBytes) {
+                throw new IllegalStateException("offset이 일치하지 않습니다. (현재 " + session.receivedBytes + " bytes 수신)");
+            }
+
+            long remaining = session.totalSize - offset;
+            long written = 0;
+            try (FileChannel out = FileChannel.open(session.tempFile, StandardOpenOption.WRITE)) {
+                ReadableByteChannel in = Channels.newChannel(body);
+                while (written < remaining) {
+                    long transferred = out.transferFrom(in, offset + written, remaining - written);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    written += transferred;
+                }
+                // 선언한 크기를 넘는 데이터가 남아 있으면 이번 조각은 버림
+                if (written == remaining && body.read() != -1) {
+                    out.truncate(offset);
+                    throw new IllegalArgumentException("선언한 파일 크기를 초과했습니다.");
+                }
+                out.force(false);
+            }
+
+            session.receivedBytes = offset + written;
+            session.lastActivity = Instant.now();
+
+            // 시그니처가 확인 가능한 길이가 되면 바로 검사 (잘못된 파일은 나머지를 받지 않음)
+            if (!session.signatureChecked && session.receivedBytes >= Math.min(FileStorageService.SIGNATURE_LENGTH, session.totalSize)) {
+                try {
+                    fileStorageService.verifySignature(session.tempFile);
+                } catch (IllegalArgumentException e) {
+                    abort(uploadId);
+                    throw e;
+                }
+                session.signatureChecked = true;
+            }
+            return session;
+        }
+    }
+
+    /**
+     * 업로드 완료 (모든 조각 수신 후 저장 절차 실행, 대상에 연결)
+     * - 저장에 실패하면 세션과 임시 파일을 정리합니다.
+     * - 대상 연결에 실패하면(대상 없음 등) 저장한 파일의 참조를 해제합니다. (다른 곳에서 참조 중이면 삭제되지 않음)
+     */
+    public String complete(String uploadId, Target target, Long targetId, String description) throws IOException {
+        if (target == null || targetId == null) {
+            throw new IllegalArgumentException("업로드를 연결할 대상(target, targetId)을 지정해야 합니다.");
+        }
+        UploadSession session = getSession(uploadId);
+        String url;
+        synchronized (session) {
+            if (session.receivedBytes != session.totalSize) {
+                throw new IllegalStateException(String.format("아직 모든 조각을 받지 못했습니다. (%d / %d bytes)",
+                        session.receivedBytes, session.totalSize));
+            }
+            sessions.remove(uploadId);
+            try {
+                url = fileStorageService.storeAssembledFile(session.tempFile, session.fileName, session.contentType);
+            } finally {
+                // 저장에 성공했다면 이미 이동되어 없음
+                Files.deleteIfExists(session.tempFile);
+            }
+        }
+
+        try {
+            attach(target, targetId, url, description);
+        } catch (RuntimeException e) {
+            fileDeletionQueue.release(url);
+            throw e;
+        }
+        log.info("분할 업로드 완료: {} -> {} ({} {})", uploadId, url, target, targetId);
+        return url;
+    }
+
+    private void attach(Target target, Long targetId, String url, String description) {
+        switch (target) {
+            case PROFILE -> portfolioService.replaceProfileImage(targetId, url);
+            case PROJECT_THUMBNAIL -> portfolioService.replaceProjectThumbnail(targetId, url);
+            case PROJECT_DETAIL -> portfolioService.addProjectDetail(targetId, url, description != null ? description : "");
+        }
+    }
+
+    /**
+     * 업로드 취소
+     */
+    public void abort(String uploadId) throws IOException {
+        UploadSession session = sessions.remove(uploadId);
+        if (session != null) {
+            Files.deleteIfExists(session.tempFile);
+            log.debug("분할 업로드 취소: {}", uploadId);
+        }
+    }
+
+    /**
+     * 오래 방치된 업로드 세션과 세션 없이 남은 임시 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${app.file.chunked.cleanup-interval-ms:600000}")
+    public void removeExpiredSessions() {
+        Instant threshold = Instant.now().minus(sessionTtl);
+        sessions.values().stream()
+                .filter(session -> session.lastActivity.isBefore(threshold))
+                .map(UploadSession::getUploadId)
+                .toList()
+                .forEach(uploadId -> {
+                    try {
+                        abort(uploadId);
+                    } catch (IOException e) {
+                        log.warn("만료된 분할 업로드 정리 실패: {}", uploadId, e);
+                    }
+                });
+        try {
+            fileStorageService.deleteStaleUploadTempFiles(sessionTtl);
+        } catch (IOException e) {
+            log.warn("분할 업로드 임시 파일 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+// src/main/java/com/example/demo/service/EntityCacheStatistics.java
+package com.example.demo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hibernate 2차 캐시 통계 (리전별 적중/누락/저장 수)
+ * - 리전 크기와 만료 시간은 application.conf에서 조정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCacheStatistics {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public Map<String, Object> getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        stats.put("hits", statistics.getSecondLevelCacheHitCount());
+        stats.put("misses", statistics.getSecondLevelCacheMissCount());
+        stats.put("puts", statistics.getSecondLevelCachePutCount());
+
+        // 리전 이름 순으로 정렬 (엔티티와 컬렉션 리전이 나란히 보이도록)
+        Map<String, Object> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> regionStats = new HashMap<>();
+            regionStats.put("hits", region.getHitCount());
+            regionStats.put("misses", region.getMissCount());
+            regionStats.put("puts", region.getPutCount());
+            // 제공자가 지원하지 않으면 음수
+            if (region.getElementCountInMemory() >= 0) {
+                regionStats.put("entries", region.getElementCountInMemory());
+            }
+            regions.put(regionName, regionStats);
+        }
+        stats.put("regions", regions);
+        return stats;
+    }
+
+    /**
+     * 2차 캐시 전체 비우기 (DB를 직접 수정한 뒤 등)
+     */
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+    }
+}
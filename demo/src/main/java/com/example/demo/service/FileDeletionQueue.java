@@ -0,0 +1,233 @@
+// src/main/java/com/example/demo/service/FileDeletionQueue.java
+package com.example.demo.service;
+
+import com.example.demo.domain.PendingFileDeletion;
+import com.example.demo.event.ImageReleasedEvent;
+import com.example.demo.repository.PendingFileDeletionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 파일 삭제 큐 (트랜잭션 커밋 후 비동기 처리)
+ * - 참조 해제 시 PendingFileDeletion 행만 기록하고, 파일 삭제는 커밋 후 백그라운드 스레드에서 수행합니다.
+ * - 삭제 직전에 참조 수를 다시 확인하므로, 그 사이 같은 파일이 다시 업로드되어 참조되면 삭제하지 않습니다.
+ *   (확인과 삭제는 업로드의 중복 재사용과 같은 잠금 안에서 수행하며, 방금 재사용된 파일은 나중에 다시 확인)
+ * - 실패한 삭제는 행마다 지수 백오프로 재시도하며, 남은 요청은 주기적으로(재시작 직후 포함) 다시 처리합니다.
+ *   (잘못된 URL, DB 오류 등 어떤 예외든 해당 행만 미루므로 큐 전체가 멈추지 않음)
+ */
+@Slf4j
+@Service
+public class FileDeletionQueue {
+
+    // 방금 업로드/재사용된 파일을 다시 확인할 때까지의 간격
+    private static final Duration RECENT_PLACEMENT_RECHECK = Duration.ofMinutes(1);
+
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final FileStorageService fileStorageService;
+    private final ImageReferenceCounter imageReferenceCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration maxBackoff;
+
+    // 단일 작업 스레드 (삭제 처리가 동시에 실행되지 않도록)
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "file-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private final AtomicLong deleted = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong postponed = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public FileDeletionQueue(
+            PendingFileDeletionRepository pendingFileDeletionRepository,
+            FileStorageService fileStorageService,
+            ImageReferenceCounter imageReferenceCounter,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.file.deletion.batch-size:100}") int batchSize,
+            @Value("${app.file.deletion.max-backoff-seconds:3600}") long maxBackoffSeconds) {
+        this.pendingFileDeletionRepository = pendingFileDeletionRepository;
+        this.fileStorageService = fileStorageService;
+        this.imageReferenceCounter = imageReferenceCounter;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+    }
+
+    /**
+     * 이미지 참조 해제 (삭제 요청 기록)
+     * - 호출한 트랜잭션에 참여하며, 커밋된 뒤에만 실제 삭제가 실행됩니다.
+     */
+    @Transactional
+    public void release(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith("/images/")) {
+            return;
+        }
+        pendingFileDeletionRepository.save(new PendingFileDeletion(imageUrl, LocalDateTime.now()));
+        eventPublisher.publishEvent(new ImageReleasedEvent(imageUrl));
+    }
+
+    /**
+     * 여러 이미지 참조 해제 (일괄 삭제용, 중복 URL은 한 번만 기록하고 INSERT는 배치로 전송)
+     */
+    @Transactional
+    public void releaseAll(Collection<String> imageUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingFileDeletion> rows = imageUrls.stream()
+                .filter(url -> url != null && url.startsWith("/images/"))
+                .distinct()
+                .map(url -> new PendingFileDeletion(url, now))
+                .toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        pendingFileDeletionRepository.saveAll(rows);
+        eventPublisher.publishEvent(new ImageReleasedEvent(rows.get(0).getImageUrl()));
+    }
+
+    /**
+     * 커밋 후 삭제 작업 실행 (트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageReleased(ImageReleasedEvent event) {
+        requestDrain();
+    }
+
+    /**
+     * 남은 삭제 요청 주기 처리 (재시도 및 재시작 후 복구)
+     */
+    @Scheduled(initialDelayString = "${app.file.deletion.initial-delay-ms:5000}",
+            fixedDelayString = "${app.file.deletion.retry-interval-ms:60000}")
+    public void retryPending() {
+        requestDrain();
+    }
+
+    /**
+     * 처리 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("pending", pendingFileDeletionRepository.count());
+        stats.put("deleted", deleted.get());
+        stats.put("skippedReferenced", skipped.get());
+        stats.put("postponedRecentlyPlaced", postponed.get());
+        stats.put("failures", failures.get());
+        return stats;
+    }
+
+    private void requestDrain() {
+        // 이미 예약된 처리가 있으면 합쳐서 한 번만 실행
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            worker.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drainScheduled.set(false);
+        }
+    }
+
+    /**
+     * 시도 가능한 삭제 요청을 batchSize 단위로 처리
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            List<PendingFileDeletion> due;
+            do {
+                due = pendingFileDeletionRepository.findDue(LocalDateTime.now(), PageRequest.of(0, batchSize));
+                processBatch(due);
+            } while (due.size() == batchSize);
+        } catch (Exception e) {
+            log.error("파일 삭제 큐 처리 중 오류가 발생했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void processBatch(List<PendingFileDeletion> batch) {
+        List<PendingFileDeletion> done = new ArrayList<>();
+        List<PendingFileDeletion> retry = new ArrayList<>();
+
+        for (PendingFileDeletion pending : batch) {
+            String imageUrl = pending.getImageUrl();
+            try {
+                FileStorageService.DeletionOutcome outcome = fileStorageService.deleteIfUnreferenced(
+                        imageUrl, () -> imageReferenceCounter.isUnreferenced(imageUrl));
+                switch (outcome) {
+                    case DELETED -> {
+                        deleted.incrementAndGet();
+                        done.add(pending);
+                    }
+                    case REFERENCED -> {
+                        // 커밋 이후 같은 파일이 다시 참조됨 (동일 내용 재업로드 등)
+                        skipped.incrementAndGet();
+                        done.add(pending);
+                    }
+                    case RECENTLY_PLACED -> {
+                        // 중복 업로드가 돌려준 URL의 참조가 아직 커밋되지 않았을 수 있음
+                        postponed.incrementAndGet();
+                        pending.setNextAttemptAt(LocalDateTime.now().plus(RECENT_PLACEMENT_RECHECK));
+                        retry.add(pending);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                failures.incrementAndGet();
+                pending.setAttempts(pending.getAttempts() + 1);
+                pending.setNextAttemptAt(LocalDateTime.now().plus(backoff(pending.getAttempts())));
+                pending.setLastError(truncate(e.toString()));
+                retry.add(pending);
+                log.warn("파일 삭제 실패 ({}회): {} - {}", pending.getAttempts(), imageUrl, e.getMessage());
+            }
+        }
+
+        if (!done.isEmpty()) {
+            pendingFileDeletionRepository.deleteAllInBatch(done);
+        }
+        if (!retry.isEmpty()) {
+            pendingFileDeletionRepository.saveAll(retry);
+        }
+        if (!batch.isEmpty()) {
+            log.debug("파일 삭제 큐 처리: 완료 {}건, 재시도 예정 {}건", done.size(), retry.size());
+        }
+    }
+
+    /**
+     * 재시도 간격 (10초부터 두 배씩, 최대 maxBackoff)
+     */
+    private Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(10L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String message) {
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
@@ -6,21 +6,29 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -41,6 +49,42 @@ public class FileStorageService {
     // 최대 파일 크기 (10MB)
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
     
+    // 시그니처 판별에 필요한 앞부분 길이 (WebP: RIFF....WEBP)
+    static final int SIGNATURE_LENGTH = 12;
+    
+    // 스트리밍 업로드 시 한 번에 읽는 크기
+    private static final int CHUNK_SIZE = 64 * 1024;
+    
+    // 콘텐츠 주소 원본 파일명 (sha256.확장자, 썸네일 sha256_크기.확장자는 제외)
+    private static final Pattern CONTENT_ADDRESSED_NAME =
+            Pattern.compile("[0-9a-f]{64}\\.[a-z]+");
+    
+    // 업로드로 생성된 파일명 (콘텐츠 주소 또는 시각_UUID_해시 형식, 썸네일 접미사 포함) - 샤드 이동 대상
+    private static final Pattern UPLOADED_NAME =
+            Pattern.compile("([0-9a-f]{64}|\\d{8}_\\d{6}_[0-9a-f]{8}(_[A-Za-z0-9_-]{8})?)(_(small|medium|large))?\\.[a-z]+");
+    
+    // 썸네일 접미사 (원본과 썸네일이 같은 샤드에 놓이도록 샤드 계산 시 제거)
+    private static final Pattern VARIANT_SUFFIX = Pattern.compile("_(small|medium|large)$");
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    
+    /**
+     * 삭제 큐 처리 결과
+     */
+    public enum DeletionOutcome {
+        DELETED,          // 원본/썸네일 삭제 (이미 없던 경우 포함)
+        REFERENCED,       // 다시 참조되어 삭제하지 않음
+        RECENTLY_PLACED   // 방금 업로드/재사용되어 참조 커밋을 기다리는 중 (나중에 다시 확인)
+    }
+    
+    /**
+     * 평면 → 샤드 이동 결과 (StorageLayoutMigrator)
+     */
+    enum RelocationOutcome {
+        MOVED,              // 샤드로 이동
+        DUPLICATE_REMOVED,  // 샤드에 같은 이름이 있어 평면 사본 제거
+        MISSING             // 평면 경로에 파일이 없음 (이미 이동/삭제됨)
+    }
+    
     // 썸네일 크기 정의
     public enum ThumbnailSize {
         SMALL(200, 200),
@@ -59,14 +103,51 @@ public class FileStorageService {
     // 파일 저장 기본 경로
     private final Path fileStorageLocation;
     private final Path thumbnailStorageLocation;
+    private final Path tempStorageLocation;
+    private final ThumbnailService thumbnailService;
+    private final ImageDecoder imageDecoder;
+    private final ImageAssetIndex imageAssetIndex;
+    private final ImageEncoder imageEncoder;
+    
+    // 콘텐츠 주소 저장 (파일명 = 내용의 SHA-256, 같은 내용은 한 번만 저장)
+    private final boolean contentAddressed;
+    
+    // 업로드 시 썸네일 미리 생성 여부 (false면 /images/r/ 요청 시점 리사이즈 사용)
+    private final boolean eagerThumbnails;
+    
+    // 같은 파일명(콘텐츠 해시)의 배치와 삭제를 직렬화하는 잠금 (파일명 해시로 나누어 사용)
+    private final Object[] fileLocks = new Object[64];
     
-    public FileStorageService(@Value("${app.file.upload-dir:src/main/resources/static/images}") String uploadDir) {
+    // 최근에 배치(새로 저장 또는 중복 재사용)된 파일명 → 유예 만료 시각(ms)
+    // - URL을 돌려준 뒤 참조가 커밋되기 전이라 참조 수가 0으로 보여도 삭제하지 않습니다.
+    private final ConcurrentMap<String, Long> recentPlacements = new ConcurrentHashMap<>();
+    private final long placementGraceMillis;
+    
+    public FileStorageService(@Value("${app.file.upload-dir:src/main/resources/static/images}") String uploadDir,
+                              @Value("${app.file.content-addressed:true}") boolean contentAddressed,
+                              @Value("${app.file.thumbnail.enabled:true}") boolean eagerThumbnails,
+                              @Value("${app.file.placement-grace-seconds:600}") long placementGraceSeconds,
+                              ThumbnailService thumbnailService,
+                              ImageDecoder imageDecoder,
+                              ImageAssetIndex imageAssetIndex,
+                              ImageEncoder imageEncoder) {
+        this.thumbnailService = thumbnailService;
+        this.imageDecoder = imageDecoder;
+        this.imageAssetIndex = imageAssetIndex;
+        this.imageEncoder = imageEncoder;
+        this.contentAddressed = contentAddressed;
+        this.eagerThumbnails = eagerThumbnails;
+        this.placementGraceMillis = TimeUnit.SECONDS.toMillis(placementGraceSeconds);
+        Arrays.setAll(fileLocks, i -> new Object());
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
         this.thumbnailStorageLocation = Paths.get(uploadDir, "thumbnails").toAbsolutePath().normalize();
+        // 원자적 이동을 위해 같은 파일 시스템(업로드 디렉토리 하위)에 임시 파일을 둡니다.
+        this.tempStorageLocation = Paths.get(uploadDir, ".tmp").toAbsolutePath().normalize();
         
         try {
             Files.createDirectories(this.fileStorageLocation);
             Files.createDirectories(this.thumbnailStorageLocation);
+            Files.createDirectories(this.tempStorageLocation);
         } catch (Exception ex) {
             throw new RuntimeException("파일 저장 디렉토리를 생성할 수 없습니다.", ex);
         }
@@ -79,20 +160,38 @@ public class FileStorageService {
         validateFile(file);
         
         try {
-            // 안전한 파일명 생성
-            String safeFileName = generateSafeFileName(file.getOriginalFilename());
+            // 시그니처 검증 + 해시 계산 + 임시 파일 기록을 한 번의 읽기로 처리
+            StoredUpload upload = eagerThumbnails ? streamToTempFile(file) : streamToTempFileWithoutCopy(file);
+            
+            // 헤더의 해상도로 압축 폭탄 차단 (픽셀 데이터는 읽지 않음)
+            ImageDecoder.ImageInfo info = checkImageDimensions(upload);
             
-            // 파일 저장
-            Path targetLocation = this.fileStorageLocation.resolve(safeFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            return placeUpload(upload, file.getOriginalFilename(), isImageType(file.getContentType()), info);
             
-            // 이미지인 경우 썸네일 생성
-            if (isImageFile(file)) {
-                generateThumbnails(targetLocation, safeFileName);
+        } catch (IOException ex) {
+            throw new RuntimeException("파일 저장 중 오류가 발생했습니다.", ex);
+        }
+    }
+    
+    /**
+     * 분할 업로드로 조립된 임시 파일 저장 (ChunkedUploadService)
+     * - 파일 내용을 메모리에 올리지 않고 해시/헤더 확인 후 최종 위치로 이동합니다.
+     * - 썸네일은 저장된 파일에서 디코딩합니다.
+     * - 검증에 실패하면 예외가 발생하며, 임시 파일 정리는 호출한 쪽에서 합니다.
+     */
+    public String storeAssembledFile(Path tempFile, String originalFileName, String contentType) {
+        validateUploadMetadata(originalFileName, contentType);
+        
+        try {
+            String extension = readSignature(tempFile);
+            
+            ImageDecoder.ImageInfo info = imageDecoder.probe(tempFile);
+            if (info != null) {
+                imageDecoder.checkPixelBudget(info);
             }
             
-            log.info("파일 업로드 완료: {}", safeFileName);
-            return "/images/" + safeFileName;
+            StoredUpload upload = new StoredUpload(tempFile, sha256Of(tempFile), null, extension);
+            return placeUpload(upload, originalFileName, isImageType(contentType), info);
             
         } catch (IOException ex) {
             throw new RuntimeException("파일 저장 중 오류가 발생했습니다.", ex);
@@ -100,7 +199,378 @@ public class FileStorageService {
     }
     
     /**
-     * 파일 유효성 검증
+     * 검증을 마친 임시 파일을 최종 이름으로 배치하고 썸네일 작업/메타데이터 등록
+     */
+    private String placeUpload(StoredUpload upload, String originalFileName, boolean image,
+                               ImageDecoder.ImageInfo info) throws IOException {
+        // 안전한 파일명 생성 (콘텐츠 주소 모드에서는 해시 기반)
+        String safeFileName = contentAddressed
+                ? getContentAddressedFileName(upload.sha256(), upload.extension())
+                : generateSafeFileName(originalFileName, upload.extension());
+        Path targetLocation = shardedPath(this.fileStorageLocation, safeFileName);
+        
+        // 존재 확인과 이동/재사용을 삭제와 직렬화하고, 참조가 커밋될 때까지 삭제되지 않도록 표시
+        Path existing;
+        boolean reused;
+        synchronized (lockFor(safeFileName)) {
+            existing = locate(this.fileStorageLocation, safeFileName);
+            reused = contentAddressed && Files.exists(existing);
+            if (reused) {
+                Files.deleteIfExists(upload.tempFile());
+            } else {
+                // 완성된 파일만 보이도록 원자적으로 이동
+                moveIntoPlace(upload.tempFile(), targetLocation);
+            }
+            markPlaced(safeFileName);
+        }
+        
+        // 같은 내용이 이미 저장되어 있으면 기존 파일과 썸네일을 재사용 (이동 전 평면 경로 포함)
+        if (reused) {
+            if (image && needsThumbnailRetry(safeFileName)) {
+                generateThumbnails(upload.content(), existing, safeFileName);
+            }
+            if (imageAssetIndex.find("/images/" + safeFileName) == null) {
+                registerAsset(safeFileName, existing, upload.sha256(), info);
+            }
+            log.info("동일한 파일이 이미 존재하여 재사용합니다: {}", safeFileName);
+            return "/images/" + safeFileName;
+        }
+        
+        // 이미지인 경우 썸네일 생성 (워커 풀에서 비동기 처리, 바로 실행될 때만 읽어 둔 바이트 사용)
+        if (image) {
+            generateThumbnails(upload.content(), targetLocation, safeFileName);
+        }
+        registerAsset(safeFileName, targetLocation, upload.sha256(), info);
+        
+        log.info("파일 업로드 완료: {} ({} bytes, sha256={})", safeFileName, Files.size(targetLocation), upload.sha256());
+        return "/images/" + safeFileName;
+    }
+    
+    private Object lockFor(String fileName) {
+        return fileLocks[Math.floorMod(fileName.hashCode(), fileLocks.length)];
+    }
+    
+    private void markPlaced(String fileName) {
+        long now = System.currentTimeMillis();
+        recentPlacements.values().removeIf(expiresAt -> expiresAt < now);
+        recentPlacements.put(fileName, now + placementGraceMillis);
+    }
+    
+    /**
+     * 유예 시간 안에 배치된 파일인지 여부 (돌려준 URL의 참조가 아직 커밋되지 않았을 수 있음)
+     */
+    public boolean isRecentlyPlaced(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith("/images/")) {
+            return false;
+        }
+        Long expiresAt = recentPlacements.get(fileUrl.substring("/images/".length()));
+        return expiresAt != null && expiresAt >= System.currentTimeMillis();
+    }
+    
+    /**
+     * 이미지 메타데이터 색인 등록 (크기, 형식, 해상도, 해시, 썸네일 목록)
+     */
+    private ImageAssetIndex.Metadata registerAsset(String fileName, Path stored, String sha256,
+                                                   ImageDecoder.ImageInfo info) throws IOException {
+        List<String> variants = eagerThumbnails
+                ? Arrays.stream(ThumbnailSize.values()).map(size -> getThumbnailFileName(fileName, size)).toList()
+                : List.of();
+        ImageAssetIndex.Metadata metadata = new ImageAssetIndex.Metadata(
+                "/images/" + fileName,
+                fileStorageLocation.relativize(stored).toString().replace('\\', '/'),
+                Files.size(stored),
+                getMimeType(fileName),
+                info != null ? info.width() : null,
+                info != null ? info.height() : null,
+                sha256,
+                variants);
+        imageAssetIndex.register(metadata);
+        return metadata;
+    }
+    
+    /**
+     * 이미지 메타데이터 조회 (색인 우선, 색인 이전에 저장된 파일은 한 번 읽어 등록)
+     * - 저장소에 없는 파일(외부 URL, 클래스패스 기본 이미지)은 null을 반환하며, 없음도 색인에 기억해 다시 확인하지 않습니다.
+     */
+    public ImageAssetIndex.Metadata getImageMetadata(String fileUrl) {
+        if (fileUrl == null || !fileUrl.startsWith("/images/")) {
+            return null;
+        }
+        ImageAssetIndex.Metadata metadata = imageAssetIndex.find(fileUrl);
+        if (metadata != null) {
+            return metadata;
+        }
+        if (imageAssetIndex.isKnownMissing(fileUrl)) {
+            return null;
+        }
+        
+        String fileName = fileUrl.substring("/images/".length());
+        try {
+            Path stored = resolveStoredImage(fileName);
+            if (!Files.isRegularFile(stored)) {
+                imageAssetIndex.markMissing(fileUrl);
+                return null;
+            }
+            String sha256 = isContentAddressed(fileName) ? fileName.substring(0, 64) : sha256Of(stored);
+            return registerAsset(fileName, stored, sha256, imageDecoder.probe(stored));
+        } catch (IllegalArgumentException e) {
+            imageAssetIndex.markMissing(fileUrl);
+            return null;
+        } catch (IOException e) {
+            log.warn("이미지 메타데이터를 읽을 수 없습니다: {}", fileUrl, e);
+            return null;
+        }
+    }
+    
+    /**
+     * 확장자 기준 MIME 타입
+     */
+    private String getMimeType(String fileName) {
+        return switch (getFileExtension(fileName).toLowerCase()) {
+            case "png" -> "image/png";
+            case "webp" -> "image/webp";
+            default -> "image/jpeg";
+        };
+    }
+    
+    /**
+     * 분할 업로드용 임시 파일 생성 (최종 위치와 같은 파일 시스템)
+     */
+    public Path createUploadTempFile() throws IOException {
+        return Files.createTempFile(tempStorageLocation, "chunked-", ".part");
+    }
+    
+    /**
+     * 오래된 분할 업로드 임시 파일 삭제 (재시작 등으로 세션이 사라진 경우)
+     */
+    public void deleteStaleUploadTempFiles(Duration olderThan) throws IOException {
+        long threshold = System.currentTimeMillis() - olderThan.toMillis();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempStorageLocation, "chunked-*.part")) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toMillis() < threshold) {
+                    Files.deleteIfExists(file);
+                    log.debug("오래된 분할 업로드 임시 파일 삭제: {}", file.getFileName());
+                }
+            }
+        }
+    }
+    
+    /**
+     * 파일 앞부분의 시그니처(매직 넘버) 확인
+     */
+    public void verifySignature(Path file) throws IOException {
+        readSignature(file);
+    }
+    
+    /**
+     * 시그니처로 판별한 저장 확장자 (유효하지 않으면 예외)
+     */
+    private String readSignature(Path file) throws IOException {
+        byte[] header = new byte[SIGNATURE_LENGTH];
+        int length = 0;
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while (length < header.length && (read = in.read(header, length, header.length - length)) != -1) {
+                length += read;
+            }
+        }
+        String extension = detectExtension(header, length);
+        if (extension == null) {
+            throw new IllegalArgumentException("파일이 손상되었거나 유효하지 않습니다.");
+        }
+        return extension;
+    }
+    
+    private String sha256Of(Path file) throws IOException {
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    /**
+     * 업로드 스트림을 한 번만 읽어 임시 파일에 기록
+     * - 처음 몇 바이트로 시그니처(매직 넘버)를 확인하고, 맞지 않으면 즉시 중단합니다.
+     * - 읽는 동안 SHA-256 해시를 계산하고 최대 크기를 검사합니다.
+     * - 읽은 바이트는 썸네일 생성에 재사용하기 위해 메모리에도 보관합니다. (최대 MAX_FILE_SIZE, 요청이 끝나면 해제)
+     * - 썸네일을 미리 만들지 않으면 streamToTempFileWithoutCopy를 사용합니다.
+     */
+    private StoredUpload streamToTempFile(MultipartFile file) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] content = new byte[(int) Math.max(SIGNATURE_LENGTH, file.getSize())];
+        int length = 0;
+        boolean signatureChecked = false;
+        
+        Path tempFile = Files.createTempFile(tempStorageLocation, "upload-", ".part");
+        try (InputStream in = file.getInputStream();
+             FileChannel out = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            
+            while (true) {
+                int read;
+                if (length < content.length) {
+                    read = in.read(content, length, Math.min(content.length - length, CHUNK_SIZE));
+                } else {
+                    // 선언된 크기를 다 읽은 뒤에도 데이터가 남아 있는 경우에만 버퍼 확장
+                    int next = in.read();
+                    if (next == -1) {
+                        break;
+                    }
+                    if (length >= MAX_FILE_SIZE) {
+                        throw new IllegalArgumentException("파일 크기가 10MB를 초과할 수 없습니다.");
+                    }
+                    content = Arrays.copyOf(content, (int) Math.min(MAX_FILE_SIZE, (long) content.length * 2));
+                    content[length] = (byte) next;
+                    read = 1;
+                }
+                if (read == -1) {
+                    break;
+                }
+                
+                // 첫 바이트들이 모이면 시그니처 확인
+                if (!signatureChecked && length + read >= SIGNATURE_LENGTH) {
+                    if (!hasValidFileSignature(content, length + read)) {
+                        throw new IllegalArgumentException("파일이 손상되었거나 유효하지 않습니다.");
+                    }
+                    signatureChecked = true;
+                }
+                
+                digest.update(content, length, read);
+                ByteBuffer chunk = ByteBuffer.wrap(content, length, read);
+                while (chunk.hasRemaining()) {
+                    out.write(chunk);
+                }
+                length += read;
+            }
+            
+            // 시그니처 길이보다 짧은 파일
+            if (!signatureChecked && !hasValidFileSignature(content, length)) {
+                throw new IllegalArgumentException("파일이 손상되었거나 유효하지 않습니다.");
+            }
+            
+            out.force(false);
+            
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        
+        byte[] exact = length == content.length ? content : Arrays.copyOf(content, length);
+        return new StoredUpload(tempFile, HexFormat.of().formatHex(digest.digest()), exact, detectExtension(exact, length));
+    }
+    
+    /**
+     * 업로드 스트림을 한 번만 읽어 임시 파일에 기록 (썸네일을 미리 만들지 않는 경우)
+     * - 내용을 메모리에 보관하지 않고 CHUNK_SIZE 버퍼 하나로 읽습니다. (해상도는 임시 파일 헤더에서 확인)
+     * - 시그니처, SHA-256, 최대 크기 검사는 streamToTempFile과 같습니다.
+     */
+    private StoredUpload streamToTempFileWithoutCopy(MultipartFile file) throws IOException {
+        MessageDigest digest = newSha256();
+        byte[] buffer = new byte[CHUNK_SIZE];
+        byte[] header = new byte[SIGNATURE_LENGTH];
+        int headerLength = 0;
+        long length = 0;
+        
+        Path tempFile = Files.createTempFile(tempStorageLocation, "upload-", ".part");
+        try (InputStream in = file.getInputStream();
+             FileChannel out = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (length + read > MAX_FILE_SIZE) {
+                    throw new IllegalArgumentException("파일 크기가 10MB를 초과할 수 없습니다.");
+                }
+                
+                // 첫 바이트들이 모이면 시그니처 확인
+                if (headerLength < SIGNATURE_LENGTH) {
+                    int copied = Math.min(read, SIGNATURE_LENGTH - headerLength);
+                    System.arraycopy(buffer, 0, header, headerLength, copied);
+                    headerLength += copied;
+                    if (headerLength == SIGNATURE_LENGTH && !hasValidFileSignature(header, headerLength)) {
+                        throw new IllegalArgumentException("파일이 손상되었거나 유효하지 않습니다.");
+                    }
+                }
+                
+                digest.update(buffer, 0, read);
+                ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    out.write(chunk);
+                }
+                length += read;
+            }
+            
+            // 시그니처 길이보다 짧은 파일
+            if (headerLength < SIGNATURE_LENGTH && !hasValidFileSignature(header, headerLength)) {
+                throw new IllegalArgumentException("파일이 손상되었거나 유효하지 않습니다.");
+            }
+            
+            out.force(false);
+            
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        
+        return new StoredUpload(tempFile, HexFormat.of().formatHex(digest.digest()), null,
+                detectExtension(header, headerLength));
+    }
+    
+    /**
+     * 헤더에서 읽은 해상도가 픽셀 상한을 넘으면 임시 파일을 지우고 거절
+     * - ImageIO로 읽을 수 없는 형식(WebP 등)은 헤더 확인을 건너뜁니다.
+     */
+    private ImageDecoder.ImageInfo checkImageDimensions(StoredUpload upload) throws IOException {
+        try {
+            ImageDecoder.ImageInfo info = upload.content() != null
+                    ? imageDecoder.probe(upload.content())
+                    : imageDecoder.probe(upload.tempFile());
+            if (info != null) {
+                imageDecoder.checkPixelBudget(info);
+            }
+            return info;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(upload.tempFile());
+            throw e;
+        }
+    }
+    
+    /**
+     * 임시 파일을 최종 위치로 이동 (같은 파일 시스템이므로 원자적 이동 우선)
+     */
+    private void moveIntoPlace(Path tempFile, Path targetLocation) throws IOException {
+        try {
+            Files.createDirectories(targetLocation.getParent());
+            Files.move(tempFile, targetLocation, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+    
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+    
+    /**
+     * 스트리밍 업로드 결과 (임시 파일, 내용 해시, 원본 바이트 - 분할 업로드는 null)
+     */
+    // extension: 시그니처로 판별한 저장 확장자 (jpg, png, webp)
+    private record StoredUpload(Path tempFile, String sha256, byte[] content, String extension) {
+    }
+    
+    /**
+     * 파일 유효성 검증 (메타데이터, 시그니처는 저장 중에 확인)
      */
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
@@ -112,39 +582,33 @@ public class FileStorageService {
             throw new IllegalArgumentException("파일 크기가 10MB를 초과할 수 없습니다.");
         }
         
+        validateUploadMetadata(file.getOriginalFilename(), file.getContentType());
+    }
+    
+    /**
+     * 파일명/MIME 타입 검증 (일반 업로드, 분할 업로드 공통)
+     */
+    public void validateUploadMetadata(String fileName, String mimeType) {
         // MIME 타입 검증
-        String mimeType = file.getContentType();
         if (mimeType == null || !ALLOWED_MIME_TYPES.contains(mimeType.toLowerCase())) {
             throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (JPEG, PNG, WebP만 허용)");
         }
         
         // 파일 확장자 검증
-        String fileName = file.getOriginalFilename();
         if (fileName == null || !hasValidExtension(fileName)) {
             throw new IllegalArgumentException("유효하지 않은 파일 확장자입니다.");
         }
-        
-        // 파일 시그니처 검증 (매직 넘버)
-        try {
-            if (!hasValidFileSignature(file)) {
-                throw new IllegalArgumentException("파일이 손상되었거나 유효하지 않습니다.");
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("파일 검증 중 오류가 발생했습니다.", e);
-        }
     }
     
     /**
      * 안전한 파일명 생성
+     * - 확장자는 클라이언트 파일명이 아니라 시그니처로 판별한 값을 사용합니다.
      */
-    private String generateSafeFileName(String originalFileName) {
+    private String generateSafeFileName(String originalFileName, String extension) {
         if (originalFileName == null) {
             originalFileName = "file";
         }
         
-        // 파일 확장자 추출
-        String extension = getFileExtension(originalFileName);
-        
         // 현재 시간 + UUID + 해시를 조합한 고유 파일명 생성
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
         String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
@@ -162,6 +626,26 @@ public class FileStorageService {
         }
     }
     
+    /**
+     * 콘텐츠 주소 파일명 생성 (SHA-256 + 시그니처로 판별한 확장자)
+     * - 같은 내용이면 클라이언트 파일명의 확장자(.JPG, .jpeg, 잘못된 확장자 등)와 관계없이 같은 이름이 됩니다.
+     */
+    private String getContentAddressedFileName(String sha256, String extension) {
+        return sha256 + "." + extension;
+    }
+    
+    /**
+     * 진행 중인 작업 없이 썸네일 파일이 빠져 있어 다시 생성해야 하는지 여부 (이전 작업 실패, 재시작 등)
+     */
+    private boolean needsThumbnailRetry(String fileName) {
+        return !thumbnailService.isInProgress(fileName)
+                && Arrays.stream(ThumbnailSize.values()).anyMatch(size -> !thumbnailExists(fileName, size));
+    }
+    
+    private boolean thumbnailExists(String fileName, ThumbnailSize size) {
+        return Files.exists(locate(thumbnailStorageLocation, getThumbnailFileName(fileName, size)));
+    }
+    
     /**
      * 파일 확장자 검증
      */
@@ -184,17 +668,21 @@ public class FileStorageService {
     /**
      * 파일 시그니처(매직 넘버) 검증
      */
-    private boolean hasValidFileSignature(MultipartFile file) throws IOException {
-        byte[] fileHeader = new byte[8];
-        int bytesRead = file.getInputStream().read(fileHeader);
-        
+    private boolean hasValidFileSignature(byte[] fileHeader, int bytesRead) {
+        return detectExtension(fileHeader, bytesRead) != null;
+    }
+    
+    /**
+     * 파일 시그니처(매직 넘버)로 저장 확장자 판별 (jpg, png, webp, 알 수 없으면 null)
+     */
+    private static String detectExtension(byte[] fileHeader, int bytesRead) {
         if (bytesRead < 2) {
-            return false;
+            return null;
         }
         
         // JPEG 파일 시그니처: FF D8
         if (fileHeader[0] == (byte) 0xFF && fileHeader[1] == (byte) 0xD8) {
-            return true;
+            return "jpg";
         }
         
         // PNG 파일 시그니처: 89 50 4E 47
@@ -203,90 +691,219 @@ public class FileStorageService {
             fileHeader[1] == (byte) 0x50 && 
             fileHeader[2] == (byte) 0x4E && 
             fileHeader[3] == (byte) 0x47) {
-            return true;
+            return "png";
         }
         
-        // WebP 파일 시그니처: RIFF....WEBP
-        if (bytesRead >= 8 &&
+        // WebP 파일 시그니처: RIFF....WEBP (4~7번째 바이트는 파일 크기)
+        if (bytesRead >= 12 &&
             fileHeader[0] == 'R' && fileHeader[1] == 'I' && 
             fileHeader[2] == 'F' && fileHeader[3] == 'F' &&
-            fileHeader[8-4] == 'W' && fileHeader[8-3] == 'E' && 
-            fileHeader[8-2] == 'B' && fileHeader[8-1] == 'P') {
-            return true;
+            fileHeader[8] == 'W' && fileHeader[9] == 'E' && 
+            fileHeader[10] == 'B' && fileHeader[11] == 'P') {
+            return "webp";
         }
         
-        return false;
+        return null;
     }
     
     /**
      * 이미지 파일 여부 확인
      */
-    private boolean isImageFile(MultipartFile file) {
-        String mimeType = file.getContentType();
+    private boolean isImageType(String mimeType) {
         return mimeType != null && mimeType.startsWith("image/");
     }
     
     /**
-     * 썸네일 생성
+     * 썸네일 생성 작업 등록
      */
-    private void generateThumbnails(Path originalFilePath, String fileName) {
-        try {
-            BufferedImage originalImage = ImageIO.read(originalFilePath.toFile());
-            if (originalImage == null) {
-                log.warn("이미지를 읽을 수 없습니다: {}", fileName);
-                return;
+    private void generateThumbnails(byte[] content, Path stored, String fileName) throws IOException {
+        if (!eagerThumbnails) {
+            return;
+        }
+        
+        Map<ThumbnailSize, Path> targets = new EnumMap<>(ThumbnailSize.class);
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            targets.put(size, shardedPath(thumbnailStorageLocation, getThumbnailFileName(fileName, size)));
+        }
+        Files.createDirectories(targets.get(ThumbnailSize.SMALL).getParent());
+
+        if (content != null) {
+            thumbnailService.submit(fileName, content, stored, targets, getOutputFormat(fileName));
+        } else {
+            thumbnailService.submit(fileName, stored, targets, getOutputFormat(fileName));
+        }
+    }
+    
+    /**
+     * 저장된 원본에서 썸네일 다시 생성 (현재 크기/인코더 설정 적용, 호출 스레드에서 실행)
+     * - 미리 생성 모드가 아니면 아무 것도 하지 않습니다.
+     * - 원본이 없으면 false를 반환합니다.
+     */
+    public boolean regenerateThumbnails(String fileUrl) throws IOException {
+        String fileName = fileUrl.substring("/images/".length());
+        Path original = resolveStoredImage(fileName);
+        if (!Files.exists(original)) {
+            return false;
+        }
+        if (!eagerThumbnails) {
+            return true;
+        }
+        
+        Map<ThumbnailSize, Path> targets = new EnumMap<>(ThumbnailSize.class);
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            targets.put(size, shardedPath(thumbnailStorageLocation, getThumbnailFileName(fileName, size)));
+        }
+        Files.createDirectories(targets.get(ThumbnailSize.SMALL).getParent());
+        thumbnailService.generateNow(fileName, original, targets, getOutputFormat(fileName));
+        return true;
+    }
+    
+    /**
+     * 업로드 시 썸네일을 미리 생성하는지 여부 (app.file.thumbnail.enabled)
+     * - false면 변형은 요청 시점 리사이즈(/images/r/...)로만 만들어집니다.
+     */
+    public boolean isEagerThumbnails() {
+        return eagerThumbnails;
+    }
+    
+    /**
+     * 썸네일/리사이즈 결과의 출력 형식 (png 또는 jpeg)
+     * - WebP는 JPEG로 변환하여 저장 (Java 기본 ImageIO가 WebP 쓰기를 지원하지 않을 수 있음)
+     */
+    static String getOutputFormat(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        return "png".equals(extension) ? "png" : "jpeg";
+    }
+    
+    /**
+     * 저장된 이미지 파일 경로 확인
+     * - 허용된 확장자의 단일 파일명만 허용합니다. (경로 조작 차단)
+     * - 샤드 디렉토리를 먼저 찾고, 아직 이동되지 않은 파일은 평면 경로에서 찾습니다.
+     */
+    public Path resolveStoredImage(String fileName) {
+        return resolveWithin(fileStorageLocation, fileName);
+    }
+    
+    /**
+     * 저장된 썸네일 파일 경로 확인
+     */
+    public Path resolveThumbnailImage(String fileName) {
+        return resolveWithin(thumbnailStorageLocation, fileName);
+    }
+    
+    private Path resolveWithin(Path root, String fileName) {
+        if (fileName == null || fileName.isBlank() || !hasValidExtension(fileName)) {
+            throw new IllegalArgumentException("유효하지 않은 파일명입니다.");
+        }
+        Path filePath = root.resolve(fileName).normalize();
+        if (!root.equals(filePath.getParent())) {
+            throw new IllegalArgumentException("유효하지 않은 파일 경로입니다.");
+        }
+        return locate(root, fileName);
+    }
+    
+    /**
+     * 샤드 경로 (파일명 해시 앞 4자리로 두 단계 디렉토리, 예: ab/cd/파일명)
+     * - 콘텐츠 주소 파일명은 이름 자체가 해시이므로 그대로 사용합니다.
+     */
+    static String shardOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String stem = VARIANT_SUFFIX.matcher(dot > 0 ? fileName.substring(0, dot) : fileName).replaceFirst("");
+        String hex = SHA256_HEX.matcher(stem).matches()
+                ? stem
+                : HexFormat.of().formatHex(newSha256().digest(stem.getBytes(StandardCharsets.UTF_8)));
+        return hex.substring(0, 2) + "/" + hex.substring(2, 4);
+    }
+    
+    Path shardedPath(Path root, String fileName) {
+        return root.resolve(shardOf(fileName)).resolve(fileName);
+    }
+    
+    /**
+     * 실제 파일 위치 (샤드 → 평면 순, 둘 다 없으면 샤드 경로)
+     */
+    private Path locate(Path root, String fileName) {
+        Path sharded = shardedPath(root, fileName);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        Path flat = root.resolve(fileName);
+        return Files.exists(flat) ? flat : sharded;
+    }
+    
+    /**
+     * 샤드 디렉토리로 옮길 수 있는 업로드 파일명 여부 (기본 이미지 등 배포 파일은 제외)
+     */
+    static boolean isUploadedName(String fileName) {
+        return UPLOADED_NAME.matcher(fileName).matches();
+    }
+    
+    /**
+     * 평면 경로의 파일을 샤드로 이동 (StorageLayoutMigrator)
+     * - 존재 확인/이동/메타데이터 갱신을 업로드 재사용, 삭제와 같은 파일명 잠금 안에서 처리합니다.
+     */
+    RelocationOutcome relocate(Path root, String fileName) throws IOException {
+        Path flat = root.resolve(fileName);
+        Path target = shardedPath(root, fileName);
+        synchronized (lockFor(fileName)) {
+            if (!Files.exists(flat)) {
+                return RelocationOutcome.MISSING;
             }
-            
-            String nameWithoutExt = fileName.substring(0, fileName.lastIndexOf('.'));
-            String extension = getFileExtension(fileName);
-            
-            // 각 썸네일 크기별로 생성
-            for (ThumbnailSize size : ThumbnailSize.values()) {
-                BufferedImage thumbnail = createThumbnail(originalImage, size.width, size.height);
-                String thumbnailFileName = String.format("%s_%s.%s", 
-                    nameWithoutExt, size.name().toLowerCase(), extension);
-                
-                Path thumbnailPath = thumbnailStorageLocation.resolve(thumbnailFileName);
-                
-                // WebP는 JPEG로 변환하여 저장 (Java 기본 ImageIO가 WebP 쓰기를 지원하지 않을 수 있음)
-                String outputFormat = "webp".equalsIgnoreCase(extension) ? "jpeg" : extension;
-                ImageIO.write(thumbnail, outputFormat, thumbnailPath.toFile());
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                // 같은 이름이 이미 샤드에 있음 (콘텐츠 주소 파일 재업로드 등) - 평면 사본 제거
+                Files.deleteIfExists(flat);
+                return RelocationOutcome.DUPLICATE_REMOVED;
             }
-            
-            log.info("썸네일 생성 완료: {}", fileName);
-            
-        } catch (IOException e) {
-            log.error("썸네일 생성 실패: {}", fileName, e);
+            try {
+                Files.move(flat, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(flat, target);
+            }
+            onRelocated(root, fileName, target);
+            return RelocationOutcome.MOVED;
         }
     }
     
     /**
-     * 썸네일 이미지 생성 (비율 유지)
+     * 샤드로 이동된 원본의 메타데이터 경로 갱신
      */
-    private BufferedImage createThumbnail(BufferedImage originalImage, int targetWidth, int targetHeight) {
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-        
-        // 비율 계산
-        double widthRatio = (double) targetWidth / originalWidth;
-        double heightRatio = (double) targetHeight / originalHeight;
-        double ratio = Math.min(widthRatio, heightRatio);
-        
-        int newWidth = (int) (originalWidth * ratio);
-        int newHeight = (int) (originalHeight * ratio);
-        
-        // 고품질 리샘플링을 위한 설정
-        BufferedImage thumbnail = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g2d = thumbnail.createGraphics();
-        
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        g2d.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
-        g2d.dispose();
-        
-        return thumbnail;
+    private void onRelocated(Path root, String fileName, Path target) {
+        if (!root.equals(fileStorageLocation)) {
+            return;
+        }
+        ImageAssetIndex.Metadata metadata = imageAssetIndex.find("/images/" + fileName);
+        if (metadata != null) {
+            imageAssetIndex.register(new ImageAssetIndex.Metadata(metadata.url(),
+                    fileStorageLocation.relativize(target).toString().replace('\\', '/'), metadata.size(),
+                    metadata.mimeType(), metadata.width(), metadata.height(), metadata.sha256(), metadata.variants()));
+        }
+    }
+    
+    /**
+     * 샤드 이동 대상 루트 디렉토리 (원본, 썸네일)
+     */
+    List<Path> storageRoots() {
+        return List.of(fileStorageLocation, thumbnailStorageLocation);
+    }
+    
+    /**
+     * 콘텐츠 주소 원본 파일명 여부 (SHA-256 기반)
+     * - 이름이 내용을 결정하므로 변경되지 않는 파일로 취급할 수 있습니다.
+     * - 썸네일은 같은 이름으로 현재 크기/인코더 설정에 따라 다시 생성되므로 해당하지 않습니다.
+     */
+    public static boolean isContentAddressed(String fileName) {
+        return CONTENT_ADDRESSED_NAME.matcher(fileName).matches();
+    }
+    
+    /**
+     * 썸네일 파일명 생성
+     */
+    private String getThumbnailFileName(String fileName, ThumbnailSize size) {
+        String nameWithoutExt = fileName.substring(0, fileName.lastIndexOf('.'));
+        // 실제 출력 형식의 확장자 사용 (WebP 원본 → .jpg)
+        String extension = ImageEncoder.extensionOf(getOutputFormat(fileName));
+        return String.format("%s_%s.%s", nameWithoutExt, size.name().toLowerCase(), extension);
     }
     
     /**
@@ -298,17 +915,25 @@ public class FileStorageService {
         }
         
         String fileName = originalImageUrl.substring("/images/".length());
-        String nameWithoutExt = fileName.substring(0, fileName.lastIndexOf('.'));
-        String extension = getFileExtension(fileName);
         
-        String thumbnailFileName = String.format("%s_%s.%s", 
-            nameWithoutExt, size.name().toLowerCase(), extension);
+        // 미리 생성하지 않는 경우 요청 시점 리사이즈 경로 사용 (설정이 바뀌면 URL도 바뀌도록 지문 포함)
+        if (!eagerThumbnails) {
+            return "/images/r/" + size.width + "x" + size.height + "/" + fileName
+                    + "?v=" + imageEncoder.getSettingsFingerprint();
+        }
+        
+        // 썸네일이 아직 생성 중이거나 디스크에 없는 경우(실패, 재시작 전 미완료) 원본 이미지 사용
+        if (thumbnailService.isInProgress(fileName) || !thumbnailExists(fileName, size)) {
+            return originalImageUrl;
+        }
         
-        return "/images/thumbnails/" + thumbnailFileName;
+        return "/images/thumbnails/" + getThumbnailFileName(fileName, size);
     }
     
     /**
      * 파일 삭제
+     * - 콘텐츠 주소 모드에서는 여러 곳이 같은 파일을 공유할 수 있으므로,
+     *   ImageReferenceCounter로 마지막 참조인지 확인한 뒤 호출해야 합니다.
      */
     public boolean deleteFile(String fileUrl) {
         if (fileUrl == null || !fileUrl.startsWith("/images/")) {
@@ -316,78 +941,96 @@ public class FileStorageService {
         }
         
         try {
-            String fileName = fileUrl.substring("/images/".length());
-            Path filePath = fileStorageLocation.resolve(fileName);
+            return deleteStoredFile(fileUrl);
+        } catch (IOException e) {
+            log.error("파일 삭제 실패: {}", fileUrl, e);
+            return false;
+        }
+    }
+    
+    /**
+     * 원본과 썸네일 삭제 (실패 시 예외 전파, 재시도용)
+     * - 이미 없는 파일은 실패로 보지 않습니다.
+     */
+    public boolean deleteStoredFile(String fileUrl) throws IOException {
+        if (fileUrl == null || !fileUrl.startsWith("/images/")) {
+            return false;
+        }
+        
+        String fileName = fileUrl.substring("/images/".length());
+        resolveStoredImage(fileName); // 파일명 검증
+        
+        synchronized (lockFor(fileName)) {
+            // 방금 같은 내용이 다시 업로드되어 URL이 반환된 경우 (참조 커밋 전)
+            if (isRecentlyPlaced(fileUrl)) {
+                log.info("최근 업로드에서 재사용된 파일이므로 삭제하지 않습니다: {}", fileName);
+                return false;
+            }
             
-            // 원본 파일 삭제
-            boolean deleted = Files.deleteIfExists(filePath);
+            // 원본 파일 삭제 (이동 중일 수 있으므로 평면 → 샤드 순으로 모두 확인)
+            boolean deleted = Files.deleteIfExists(fileStorageLocation.resolve(fileName));
+            deleted |= Files.deleteIfExists(shardedPath(fileStorageLocation, fileName));
             
             // 썸네일 파일들도 삭제
             deleteThumbnails(fileName);
             
+            imageAssetIndex.remove(fileUrl);
             log.info("파일 삭제 완료: {}", fileName);
             return deleted;
-            
-        } catch (IOException e) {
-            log.error("파일 삭제 실패: {}", fileUrl, e);
-            return false;
+        }
+    }
+    
+    /**
+     * 참조가 없을 때만 원본과 썸네일 삭제 (FileDeletionQueue용)
+     * - 참조 확인과 삭제를 업로드 배치와 같은 잠금 안에서 수행하므로, 그 사이 중복 업로드가 이 파일을 재사용할 수 없습니다.
+     */
+    public DeletionOutcome deleteIfUnreferenced(String fileUrl, BooleanSupplier unreferenced) throws IOException {
+        String fileName = fileUrl.substring("/images/".length());
+        resolveStoredImage(fileName); // 파일명 검증
+        
+        synchronized (lockFor(fileName)) {
+            if (isRecentlyPlaced(fileUrl)) {
+                return DeletionOutcome.RECENTLY_PLACED;
+            }
+            if (!unreferenced.getAsBoolean()) {
+                return DeletionOutcome.REFERENCED;
+            }
+            deleteStoredFile(fileUrl);
+            return DeletionOutcome.DELETED;
         }
     }
     
     /**
      * 썸네일 파일들 삭제
      */
-    private void deleteThumbnails(String originalFileName) {
-        try {
-            String nameWithoutExt = originalFileName.substring(0, originalFileName.lastIndexOf('.'));
-            String extension = getFileExtension(originalFileName);
-            
-            for (ThumbnailSize size : ThumbnailSize.values()) {
-                String thumbnailFileName = String.format("%s_%s.%s", 
-                    nameWithoutExt, size.name().toLowerCase(), extension);
-                Path thumbnailPath = thumbnailStorageLocation.resolve(thumbnailFileName);
-                Files.deleteIfExists(thumbnailPath);
+    private void deleteThumbnails(String originalFileName) throws IOException {
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            // 이전 방식(원본 확장자 유지)으로 저장된 WebP 썸네일도 정리
+            String legacyName = originalFileName.substring(0, originalFileName.lastIndexOf('.'))
+                    + "_" + size.name().toLowerCase() + "." + getFileExtension(originalFileName);
+            for (String thumbnailName : Set.of(getThumbnailFileName(originalFileName, size), legacyName)) {
+                Files.deleteIfExists(thumbnailStorageLocation.resolve(thumbnailName));
+                Files.deleteIfExists(shardedPath(thumbnailStorageLocation, thumbnailName));
             }
-            
-        } catch (IOException e) {
-            log.warn("썸네일 삭제 중 오류 발생: {}", originalFileName, e);
         }
     }
     
     /**
-     * 파일 존재 여부 확인
+     * 파일 존재 여부 확인 (메타데이터 색인 조회)
      */
     public boolean fileExists(String fileUrl) {
-        if (fileUrl == null || !fileUrl.startsWith("/images/")) {
-            return false;
-        }
-        
-        String fileName = fileUrl.substring("/images/".length());
-        Path filePath = fileStorageLocation.resolve(fileName);
-        return Files.exists(filePath);
+        return getImageMetadata(fileUrl) != null;
     }
     
     /**
-     * 파일 정보 조회
+     * 파일 정보 조회 (메타데이터 색인 조회, 디스크 접근 없음)
      */
     public FileInfo getFileInfo(String fileUrl) {
-        if (!fileExists(fileUrl)) {
-            return null;
-        }
-        
-        try {
-            String fileName = fileUrl.substring("/images/".length());
-            Path filePath = fileStorageLocation.resolve(fileName);
-            
-            long size = Files.size(filePath);
-            String mimeType = Files.probeContentType(filePath);
-            
-            return new FileInfo(fileName, size, mimeType, fileUrl);
-            
-        } catch (IOException e) {
-            log.error("파일 정보 조회 실패: {}", fileUrl, e);
+        ImageAssetIndex.Metadata metadata = getImageMetadata(fileUrl);
+        if (metadata == null) {
             return null;
         }
+        return new FileInfo(fileUrl.substring("/images/".length()), metadata.size(), metadata.mimeType(), fileUrl);
     }
     
     /**
@@ -0,0 +1,183 @@
+// src/main/java/com/example/demo/service/ImageAssetIndex.java
+package com.example.demo.service;
+
+import com.example.demo.domain.ImageAsset;
+import com.example.demo.repository.ImageAssetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이미지 메타데이터 색인 (ImageAsset 테이블 + 메모리 캐시)
+ * - 첫 조회 때 전체 행을 한 번 읽어 URL별로 보관하며, 이후 조회는 디스크/DB 접근 없이 처리합니다.
+ * - 업로드 시 등록하고 파일 삭제 시 제거하므로, 색인에 있는 URL은 저장소에 존재하는 파일입니다.
+ * - 저장소에 없는 URL(시드 데이터의 기본 이미지 등)도 일정 시간 기억해 렌더링마다 파일 시스템을 확인하지 않습니다.
+ *   (등록 시 바로 해제되며, 직접 복사한 파일은 만료 후 반영)
+ */
+@Slf4j
+@Component
+public class ImageAssetIndex {
+
+    /**
+     * 캐시되는 불변 메타데이터
+     */
+    public record Metadata(String url, String storagePath, long size, String mimeType,
+                           Integer width, Integer height, String sha256, List<String> variants) {
+
+        public boolean hasDimensions() {
+            return width != null && height != null;
+        }
+    }
+
+    private final ImageAssetRepository imageAssetRepository;
+    private final TransactionTemplate writeTransaction;
+    private final ConcurrentMap<String, Metadata> cache = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    // 저장소에 없는 URL → 만료 시각 (nanoTime)
+    private static final int MAX_MISSING_ENTRIES = 10_000;
+    private final ConcurrentMap<String, Long> missing = new ConcurrentHashMap<>();
+    private final long missingTtlNanos;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong missingHits = new AtomicLong();
+
+    public ImageAssetIndex(ImageAssetRepository imageAssetRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.file.metadata.missing-ttl-seconds:300}") long missingTtlSeconds) {
+        this.imageAssetRepository = imageAssetRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.missingTtlNanos = TimeUnit.SECONDS.toNanos(missingTtlSeconds);
+    }
+
+    /**
+     * URL의 메타데이터 (색인에 없으면 null)
+     */
+    public Metadata find(String url) {
+        ensureLoaded();
+        Metadata metadata = cache.get(url);
+        (metadata != null ? hits : misses).incrementAndGet();
+        return metadata;
+    }
+
+    /**
+     * 최근에 저장소에 없다고 확인된 URL인지 (만료된 항목은 제거)
+     */
+    public boolean isKnownMissing(String url) {
+        Long expiresAt = missing.get(url);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt >= 0) {
+            missing.remove(url, expiresAt);
+            return false;
+        }
+        missingHits.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 저장소에 없는 URL 기록 (TTL이 0이면 기록하지 않음)
+     */
+    public void markMissing(String url) {
+        if (missingTtlNanos <= 0) {
+            return;
+        }
+        // 임의의 URL 요청으로 무한히 늘어나지 않도록 상한을 넘으면 비움
+        if (missing.size() >= MAX_MISSING_ENTRIES) {
+            missing.clear();
+        }
+        missing.put(url, System.nanoTime() + missingTtlNanos);
+    }
+
+    /**
+     * 메타데이터 등록 (같은 URL이 있으면 갱신, 없음 기록은 해제)
+     * - 별도 트랜잭션에서 커밋합니다. 렌더링 중 색인 이전 파일을 채울 때는 읽기 전용 트랜잭션 안에서 호출되므로,
+     *   그 트랜잭션에 참여하면 INSERT가 flush되지 않아(FlushMode.MANUAL) 재시작마다 디스크를 다시 읽게 됩니다.
+     */
+    public void register(Metadata metadata) {
+        ensureLoaded();
+        try {
+            writeTransaction.executeWithoutResult(status -> save(metadata));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 업로드되어 다른 요청이 먼저 등록한 경우
+            log.debug("이미지 메타데이터가 이미 등록되어 있습니다: {}", metadata.url());
+        }
+        cache.put(metadata.url(), metadata);
+        missing.remove(metadata.url());
+    }
+
+    private void save(Metadata metadata) {
+        ImageAsset asset = imageAssetRepository.findByUrl(metadata.url())
+                .orElseGet(() -> new ImageAsset(metadata.url(), metadata.storagePath(), metadata.size(),
+                        metadata.mimeType(), metadata.width(), metadata.height(), metadata.sha256(), null));
+        asset.setStoragePath(metadata.storagePath());
+        asset.setSizeBytes(metadata.size());
+        asset.setMimeType(metadata.mimeType());
+        asset.setWidth(metadata.width());
+        asset.setHeight(metadata.height());
+        asset.setSha256(metadata.sha256());
+        asset.setVariants(String.join(",", metadata.variants()));
+        imageAssetRepository.save(asset);
+    }
+
+    /**
+     * 메타데이터 제거 (파일 삭제 후)
+     */
+    public void remove(String url) {
+        imageAssetRepository.deleteByUrl(url);
+        cache.remove(url);
+    }
+
+    /**
+     * 색인 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("entries", cache.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("missingEntries", missing.size());
+        stats.put("missingHits", missingHits.get());
+        return stats;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            for (ImageAsset asset : imageAssetRepository.findAll()) {
+                cache.put(asset.getUrl(), toMetadata(asset));
+            }
+            loaded = true;
+            log.info("이미지 메타데이터 색인 로드: {}개", cache.size());
+        }
+    }
+
+    private Metadata toMetadata(ImageAsset asset) {
+        List<String> variants = asset.getVariants() == null || asset.getVariants().isBlank()
+                ? List.of()
+                : Arrays.asList(asset.getVariants().split(","));
+        return new Metadata(asset.getUrl(), asset.getStoragePath(), asset.getSizeBytes(), asset.getMimeType(),
+                asset.getWidth(), asset.getHeight(), asset.getSha256(), List.copyOf(variants));
+    }
+}
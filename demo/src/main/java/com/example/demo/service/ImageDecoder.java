@@ -0,0 +1,182 @@
+// src/main/java/com/example/demo/service/ImageDecoder.java
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 상한이 있는 이미지 디코더
+ * - 픽셀 데이터를 읽기 전에 헤더만으로 크기를 확인하고, 픽셀 수 상한을 넘으면 거절합니다. (압축 폭탄 방지)
+ * - 썸네일처럼 작은 결과만 필요하면 ImageReadParam 서브샘플링으로 축소된 해상도로 바로 디코딩합니다.
+ * - 디코딩된 이미지의 메모리 크기를 기록하여 최대값을 통계로 제공합니다.
+ */
+@Slf4j
+@Component
+public class ImageDecoder {
+
+    /**
+     * 헤더에서 읽은 이미지 정보
+     */
+    public record ImageInfo(String format, int width, int height) {
+
+        public long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    private final long maxPixels;
+
+    private final AtomicLong decoded = new AtomicLong();
+    private final AtomicLong subsampled = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong lastDecodedBytes = new AtomicLong();
+    private final AtomicLong peakDecodedBytes = new AtomicLong();
+
+    public ImageDecoder(@Value("${app.file.image.max-pixels:50000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    /**
+     * 헤더만 읽어 크기 확인 (ImageIO가 읽을 수 없는 형식이면 null)
+     */
+    public ImageInfo probe(byte[] content) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(content))) {
+            return probe(input);
+        }
+    }
+
+    /**
+     * 헤더만 읽어 크기 확인 (저장된 파일)
+     */
+    public ImageInfo probe(Path path) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            return input == null ? null : probe(input);
+        }
+    }
+
+    private ImageInfo probe(ImageInputStream input) throws IOException {
+        ImageReader reader = findReader(input);
+        if (reader == null) {
+            return null;
+        }
+        try {
+            reader.setInput(input, true, true);
+            return new ImageInfo(reader.getFormatName(), reader.getWidth(0), reader.getHeight(0));
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 픽셀 수 상한 확인
+     */
+    public void checkPixelBudget(ImageInfo info) {
+        if (info.pixels() > maxPixels) {
+            rejected.incrementAndGet();
+            throw new IllegalArgumentException(String.format(
+                    "이미지 해상도가 너무 큽니다. (%dx%d, 최대 %,d 픽셀)", info.width(), info.height(), maxPixels));
+        }
+    }
+
+    /**
+     * 지정한 상자 크기로 축소할 용도로 디코딩 (메모리의 원본 바이트)
+     */
+    public BufferedImage decodeForBox(byte[] content, int boxWidth, int boxHeight) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(content))) {
+            return decodeForBox(input, boxWidth, boxHeight);
+        }
+    }
+
+    /**
+     * 지정한 상자 크기로 축소할 용도로 디코딩 (저장된 파일)
+     */
+    public BufferedImage decodeForBox(Path path, int boxWidth, int boxHeight) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                throw new IOException("이미지를 열 수 없습니다: " + path.getFileName());
+            }
+            return decodeForBox(input, boxWidth, boxHeight);
+        }
+    }
+
+    /**
+     * 디코딩 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("maxPixels", maxPixels);
+        stats.put("decoded", decoded.get());
+        stats.put("subsampled", subsampled.get());
+        stats.put("rejected", rejected.get());
+        stats.put("lastDecodedBytes", lastDecodedBytes.get());
+        stats.put("peakDecodedBytes", peakDecodedBytes.get());
+        return stats;
+    }
+
+    private BufferedImage decodeForBox(ImageInputStream input, int boxWidth, int boxHeight) throws IOException {
+        ImageReader reader = findReader(input);
+        if (reader == null) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        try {
+            reader.setInput(input, true, true);
+            ImageInfo info = new ImageInfo(reader.getFormatName(), reader.getWidth(0), reader.getHeight(0));
+            checkPixelBudget(info);
+
+            // 품질을 위해 결과 크기의 2배 이상은 남기고 건너뛰며 읽기
+            int factor = subsamplingFactor(info, boxWidth, boxHeight);
+            ImageReadParam param = reader.getDefaultReadParam();
+            if (factor > 1) {
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                subsampled.incrementAndGet();
+            }
+
+            BufferedImage image = reader.read(0, param);
+            record(info, factor, image);
+            return image;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private ImageReader findReader(ImageInputStream input) {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        return readers.hasNext() ? readers.next() : null;
+    }
+
+    private int subsamplingFactor(ImageInfo info, int boxWidth, int boxHeight) {
+        double ratio = Math.min((double) boxWidth / info.width(), (double) boxHeight / info.height());
+        if (ratio >= 0.5) {
+            return 1;
+        }
+        return (int) Math.floor(1 / (2 * ratio));
+    }
+
+    private void record(ImageInfo info, int factor, BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        long bytes = (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+
+        decoded.incrementAndGet();
+        lastDecodedBytes.set(bytes);
+        peakDecodedBytes.accumulateAndGet(bytes, Math::max);
+        log.debug("이미지 디코딩: {} {}x{} -> {}x{} (1/{}), {} bytes",
+                info.format(), info.width(), info.height(), image.getWidth(), image.getHeight(), factor, bytes);
+    }
+}
@@ -0,0 +1,113 @@
+// src/main/java/com/example/demo/service/ImageEncoder.java
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 썸네일/리사이즈 결과 인코더
+ * - JPEG: 설정된 품질(app.portfolio.image.quality)과 프로그레시브 출력
+ * - PNG: 설정된 압축 레벨(0~9, 기본 9)
+ * - 메타데이터(EXIF 등)는 쓰지 않습니다.
+ */
+@Component
+public class ImageEncoder {
+
+    private final float jpegQuality;
+    private final boolean progressive;
+    private final float pngCompressionQuality;
+    private final String settingsFingerprint;
+
+    public ImageEncoder(ImageResampler imageResampler,
+                        @Value("${app.portfolio.image.quality:85}") int quality,
+                        @Value("${app.portfolio.image.progressive:true}") boolean progressive,
+                        @Value("${app.portfolio.image.png-compression-level:9}") int pngCompressionLevel) {
+        this.jpegQuality = Math.max(1, Math.min(quality, 100)) / 100f;
+        this.progressive = progressive;
+        // PNG 작성기는 품질 1.0 = 압축 없음, 0.0 = 최대 압축(deflate 9)으로 해석
+        this.pngCompressionQuality = 1f - Math.max(0, Math.min(pngCompressionLevel, 9)) / 9f;
+        this.settingsFingerprint = "q" + Math.round(jpegQuality * 100) + (progressive ? "p" : "")
+                + "z" + Math.round((1f - pngCompressionQuality) * 9) + "r" + imageResampler.getRevision();
+    }
+
+    /**
+     * 출력 결과를 바꾸는 설정의 지문 (품질, 프로그레시브, PNG 압축, 리샘플링 방식)
+     * - 캐시 키와 ETag에 넣어, 설정이 바뀌면 이전 결과를 쓰지 않도록 합니다.
+     */
+    public String getSettingsFingerprint() {
+        return settingsFingerprint;
+    }
+
+    /**
+     * 이미지를 지정한 형식(jpeg/png)으로 인코딩
+     */
+    public byte[] encode(BufferedImage image, String format) throws IOException {
+        String formatName = normalizeFormat(format);
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("지원하지 않는 출력 형식입니다: " + format);
+        }
+
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality("jpeg".equals(formatName) ? jpegQuality : pngCompressionQuality);
+        }
+        // PNG의 프로그레시브(Adam7 인터레이스)는 용량이 커지므로 JPEG에만 적용
+        if ("jpeg".equals(formatName) && progressive && param.canWriteProgressive()) {
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            // 스트림/이미지 메타데이터를 null로 넘겨 원본 메타데이터 없이 기록
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 같은 이미지를 ImageIO 기본 설정(ImageIO.write)으로 썼을 때의 크기 (절감량 비교 기준)
+     */
+    public int encodedSizeWithDefaults(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, normalizeFormat(format), out)) {
+            throw new IOException("지원하지 않는 출력 형식입니다: " + format);
+        }
+        return out.size();
+    }
+
+    /**
+     * 출력 형식에 맞는 파일 확장자
+     */
+    public static String extensionOf(String format) {
+        return "jpeg".equals(normalizeFormat(format)) ? "jpg" : "png";
+    }
+
+    /**
+     * 출력 형식에 맞는 Content-Type
+     */
+    public static String contentTypeOf(String format) {
+        return "jpeg".equals(normalizeFormat(format)) ? "image/jpeg" : "image/png";
+    }
+
+    private static String normalizeFormat(String format) {
+        String lower = format.toLowerCase();
+        return "png".equals(lower) ? "png" : "jpeg";
+    }
+}
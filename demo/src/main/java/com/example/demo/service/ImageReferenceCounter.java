@@ -0,0 +1,58 @@
+// src/main/java/com/example/demo/service/ImageReferenceCounter.java
+package com.example.demo.service;
+
+import com.example.demo.repository.PortfolioDataRepository;
+import com.example.demo.repository.ProjectDetailRepository;
+import com.example.demo.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * 이미지 참조 수 계산
+ * - 프로젝트 상세 이미지, 프로젝트 썸네일, 프로필 이미지 컬럼에서 같은 URL을 참조하는 행을 셉니다.
+ * - 별도 카운터를 두지 않고 URL 컬럼에서 직접 세므로 실제 데이터와 어긋나지 않습니다.
+ * - 호출 전에 참조 제거(삭제/변경)를 먼저 수행해야 합니다. (JPQL 실행 전 자동 flush)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ImageReferenceCounter {
+
+    private final ProjectDetailRepository projectDetailRepository;
+    private final ProjectRepository projectRepository;
+    private final PortfolioDataRepository portfolioDataRepository;
+
+    /**
+     * 이미지 URL을 참조하는 행 수
+     */
+    public long countReferences(String imageUrl) {
+        if (imageUrl == null) {
+            return 0;
+        }
+        return projectDetailRepository.countByImageUrl(imageUrl)
+                + projectRepository.countByThumbnailUrl(imageUrl)
+                + portfolioDataRepository.countByProfileImageUrl(imageUrl);
+    }
+
+    /**
+     * 더 이상 참조하는 곳이 없는지 여부
+     */
+    public boolean isUnreferenced(String imageUrl) {
+        return countReferences(imageUrl) == 0;
+    }
+
+    /**
+     * 참조 중인 모든 이미지 URL (정렬, 중복 제거)
+     */
+    public SortedSet<String> findReferencedImageUrls() {
+        SortedSet<String> urls = new TreeSet<>();
+        urls.addAll(projectDetailRepository.findDistinctImageUrls());
+        urls.addAll(projectRepository.findDistinctThumbnailUrls());
+        urls.addAll(portfolioDataRepository.findDistinctProfileImageUrls());
+        return urls;
+    }
+}
@@ -0,0 +1,340 @@
+// src/main/java/com/example/demo/service/ImageResampler.java
+package com.example.demo.service;
+
+import com.example.demo.service.FileStorageService.ThumbnailSize;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+
+/**
+ * 다단계 썸네일 리샘플링 엔진
+ * - 큰 축소 비율에서도 품질이 유지되도록 2x2 평균으로 절반씩 단계적으로 축소합니다. (progressive downscaling)
+ * - 작은 크기는 원본이 아니라 바로 위 크기의 결과에서 만듭니다. (cascade)
+ * - 마지막 단계(절반 이하 비율)는 INT_RGB 래스터를 직접 읽는 bilinear 보간으로 그립니다. (Java2D drawImage보다 빠르고 띠 단위 병렬화 가능)
+ * - 절반 축소와 마지막 단계는 가로 띠 단위로 나누어 fork-join 풀에서 병렬로 그립니다. (결과가 MIN_BAND_HEIGHT보다 낮으면 나누지 않음)
+ * - 완성된 크기는 같은 풀에서 병렬로 후처리(인코딩/저장)됩니다.
+ * - 단계별 중간 이미지는 스크래치 버퍼 두 개를 번갈아 쓰며, 작업이 끝나면 다음 업로드를 위해 반납합니다.
+ *   (동시에 도는 작업 수 = 썸네일 워커 수 만큼만 보관되며, MAX_RETAINED_PIXELS보다 큰 버퍼는 반납하지 않음)
+ * - Java2D로 그리는 경로는 배경색으로 채우며 덮어쓰므로, 재사용한 버퍼의 이전 내용이나 투명 영역이 결과에 섞이지 않습니다.
+ * - 단계적 축소는 원본 픽셀을 모두 읽으므로, 크기마다 bilinear 한 번만 하는 방식보다 느릴 수 있습니다.
+ *   app.file.thumbnail.progressive-downscale=false면 크기마다 원본에서 한 번에 축소합니다. (빠르지만 큰 비율에서 계단/물결 무늬)
+ */
+@Component
+public class ImageResampler {
+
+    // 결과 픽셀이 달라지는 변경(배경색, 필터 등)마다 올림 (ImageEncoder 설정 지문에 포함)
+    static final int REVISION = 3;
+
+    // 띠 하나의 최소 높이 (너무 잘게 나누면 분배 비용이 더 큼)
+    private static final int MIN_BAND_HEIGHT = 256;
+    // 작업 사이에 보관할 스크래치 버퍼 하나의 최대 픽셀 수 (INT_RGB 기준 약 16MB)
+    private static final long MAX_RETAINED_PIXELS = 4_000_000L;
+    // 투명 영역을 채울 배경색 (결과는 알파가 없는 INT_RGB)
+    private static final Color BACKGROUND = Color.WHITE;
+
+    private final ForkJoinPool renderPool;
+    private final boolean progressive;
+    private final Queue<Scratch> idleScratches = new ConcurrentLinkedQueue<>();
+
+    public ImageResampler(@Value("${app.file.thumbnail.render-parallelism:0}") int parallelism,
+                          @Value("${app.file.thumbnail.progressive-downscale:true}") boolean progressive) {
+        int size = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.renderPool = new ForkJoinPool(size);
+        this.progressive = progressive;
+    }
+
+    /**
+     * 결과 픽셀을 결정하는 리샘플링 방식 (ImageEncoder 설정 지문에 포함)
+     */
+    public String getRevision() {
+        return REVISION + (progressive ? "" : "s");
+    }
+
+    /**
+     * 큰 크기부터 차례로 축소하며, 각 결과를 sink에서 병렬로 처리
+     */
+    public void renderCascade(BufferedImage original, Collection<ThumbnailSize> sizes,
+                              BiConsumer<ThumbnailSize, BufferedImage> sink) {
+        List<ThumbnailSize> ordered = sizes.stream()
+                .sorted(Comparator.comparingLong((ThumbnailSize size) -> (long) size.width * size.height).reversed())
+                .toList();
+
+        Scratch scratch = Objects.requireNonNullElseGet(idleScratches.poll(), Scratch::new);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        try {
+            BufferedImage source = original;
+            for (ThumbnailSize size : ordered) {
+                BufferedImage resized = resize(source, size.width, size.height, scratch);
+                tasks.add(renderPool.submit(() -> sink.accept(size, resized)));
+                if (progressive) {
+                    source = resized;
+                }
+            }
+        } finally {
+            scratch.trim(MAX_RETAINED_PIXELS);
+            idleScratches.offer(scratch);
+        }
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    /**
+     * 비율을 유지하며 지정한 상자 크기 안으로 축소 (확대하지 않음)
+     */
+    public BufferedImage resize(BufferedImage source, int boxWidth, int boxHeight) {
+        return resize(source, boxWidth, boxHeight, new Scratch());
+    }
+
+    private BufferedImage resize(BufferedImage source, int boxWidth, int boxHeight, Scratch scratch) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        // 비율 계산
+        double ratio = Math.min(1.0, Math.min((double) boxWidth / width, (double) boxHeight / height));
+        int targetWidth = Math.max(1, (int) (width * ratio));
+        int targetHeight = Math.max(1, (int) (height * ratio));
+
+        // 목표 크기의 2배를 넘는 동안 정확히 절반씩 축소 (스크래치 버퍼 재사용)
+        BufferedImage current = source;
+        while (progressive && width / 2 > targetWidth && height / 2 > targetHeight) {
+            int nextWidth = width / 2;
+            int nextHeight = height / 2;
+            BufferedImage buffer = scratch.obtain(nextWidth, nextHeight);
+            halve(current, buffer, nextWidth, nextHeight);
+            current = buffer;
+            width = nextWidth;
+            height = nextHeight;
+        }
+
+        // 마지막 단계는 결과 전용 이미지로 (다음 크기의 원본이자 병렬 인코딩 대상이므로 공유하지 않음)
+        BufferedImage result = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        if (current.getType() == BufferedImage.TYPE_INT_RGB && hasPlainRaster(current)) {
+            scale(current, width, height, result, targetWidth, targetHeight);
+        } else {
+            draw(current, 0, 0, width, height, result, 0, 0, targetWidth, targetHeight);
+        }
+        return result;
+    }
+
+    /**
+     * source의 (0,0)-(2w,2h) 영역을 target(스크래치, INT_RGB)의 (0,0)-(w,h)로 절반 축소
+     * - 결과를 가로 띠로 나누어 병렬로 처리합니다. (띠 경계가 원본의 짝수 줄과 정확히 맞물림)
+     * - INT_RGB / 3BYTE_BGR 원본은 래스터를 직접 읽어 2x2 평균을 구하고, 그 외 형식은 Java2D로 그립니다.
+     * - source와 target은 서로 다른 이미지여야 합니다.
+     */
+    private void halve(BufferedImage source, BufferedImage target, int width, int height) {
+        inBands(height, (top, bottom) -> halveBand(source, target, width, top, bottom));
+    }
+
+    /**
+     * 결과 높이를 가로 띠로 나누어 병렬 처리 (띠 하나면 호출 스레드에서 바로 실행)
+     */
+    private void inBands(int height, Band band) {
+        int bands = Math.min(renderPool.getParallelism(), Math.max(1, height / MIN_BAND_HEIGHT));
+        if (bands == 1) {
+            band.render(0, height);
+            return;
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(bands);
+        for (int i = 0; i < bands; i++) {
+            int top = height * i / bands;
+            int bottom = height * (i + 1) / bands;
+            tasks.add(renderPool.submit(() -> band.render(top, bottom)));
+        }
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    private void halveBand(BufferedImage source, BufferedImage target, int width, int top, int bottom) {
+        WritableRaster sourceRaster = source.getRaster();
+        if (!hasPlainRaster(source)) {
+            draw(source, 0, top * 2, width * 2, bottom * 2, target, 0, top, width, bottom);
+            return;
+        }
+
+        int[] out = ((DataBufferInt) target.getRaster().getDataBuffer()).getData();
+        int outStride = ((SinglePixelPackedSampleModel) target.getSampleModel()).getScanlineStride();
+
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            int[] in = ((DataBufferInt) sourceRaster.getDataBuffer()).getData();
+            int stride = ((SinglePixelPackedSampleModel) source.getSampleModel()).getScanlineStride();
+            for (int y = top; y < bottom; y++) {
+                int row0 = y * 2 * stride;
+                int row1 = row0 + stride;
+                int o = y * outStride;
+                for (int x = 0; x < width; x++) {
+                    int a = in[row0 + 2 * x], b = in[row0 + 2 * x + 1];
+                    int c = in[row1 + 2 * x], d = in[row1 + 2 * x + 1];
+                    // R/B와 G를 나누어 한 번에 평균 (채널 합이 10비트를 넘지 않아 서로 겹치지 않음)
+                    int redBlue = ((a & 0xFF00FF) + (b & 0xFF00FF) + (c & 0xFF00FF) + (d & 0xFF00FF) + 0x020002) >>> 2;
+                    int green = ((a & 0xFF00) + (b & 0xFF00) + (c & 0xFF00) + (d & 0xFF00) + 0x0200) >>> 2;
+                    out[o + x] = (redBlue & 0xFF00FF) | (green & 0xFF00);
+                }
+            }
+        } else if (source.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            byte[] in = ((DataBufferByte) sourceRaster.getDataBuffer()).getData();
+            int stride = ((ComponentSampleModel) source.getSampleModel()).getScanlineStride();
+            for (int y = top; y < bottom; y++) {
+                int row0 = y * 2 * stride;
+                int row1 = row0 + stride;
+                int o = y * outStride;
+                for (int x = 0; x < width; x++) {
+                    int i = row0 + 6 * x;
+                    int j = row1 + 6 * x;
+                    int blue = ((in[i] & 0xFF) + (in[i + 3] & 0xFF) + (in[j] & 0xFF) + (in[j + 3] & 0xFF) + 2) >> 2;
+                    int green = ((in[i + 1] & 0xFF) + (in[i + 4] & 0xFF) + (in[j + 1] & 0xFF) + (in[j + 4] & 0xFF) + 2) >> 2;
+                    int red = ((in[i + 2] & 0xFF) + (in[i + 5] & 0xFF) + (in[j + 2] & 0xFF) + (in[j + 5] & 0xFF) + 2) >> 2;
+                    out[o + x] = (red << 16) | (green << 8) | blue;
+                }
+            }
+        } else {
+            draw(source, 0, top * 2, width * 2, bottom * 2, target, 0, top, width, bottom);
+        }
+    }
+
+    /**
+     * source(INT_RGB)의 (0,0)-(width,height) 영역을 target(INT_RGB) 전체로 bilinear 보간
+     * - 픽셀 중심을 맞춰 대응시키며(Java2D와 같은 방식), 가중치는 8비트 고정소수점으로 계산합니다.
+     * - 절반 축소를 마친 뒤의 비율(0.5 초과)에서만 쓰이므로 2x2 이웃만 읽어도 품질이 유지됩니다.
+     */
+    private void scale(BufferedImage source, int width, int height, BufferedImage target, int targetWidth, int targetHeight) {
+        // 열별 원본 위치와 가중치는 모든 행에서 같으므로 한 번만 계산
+        int[] left = new int[targetWidth];
+        int[] right = new int[targetWidth];
+        int[] weightX = new int[targetWidth];
+        double scaleX = (double) width / targetWidth;
+        for (int x = 0; x < targetWidth; x++) {
+            double position = Math.max(0, (x + 0.5) * scaleX - 0.5);
+            int column = Math.min((int) position, width - 1);
+            left[x] = column;
+            right[x] = Math.min(column + 1, width - 1);
+            weightX[x] = right[x] == column ? 0 : (int) Math.round((position - column) * 256);
+        }
+        double scaleY = (double) height / targetHeight;
+
+        int[] in = ((DataBufferInt) source.getRaster().getDataBuffer()).getData();
+        int stride = ((SinglePixelPackedSampleModel) source.getSampleModel()).getScanlineStride();
+        int[] out = ((DataBufferInt) target.getRaster().getDataBuffer()).getData();
+        int outStride = ((SinglePixelPackedSampleModel) target.getSampleModel()).getScanlineStride();
+
+        inBands(targetHeight, (top, bottom) -> {
+            for (int y = top; y < bottom; y++) {
+                double position = Math.max(0, (y + 0.5) * scaleY - 0.5);
+                int row = Math.min((int) position, height - 1);
+                int nextRow = Math.min(row + 1, height - 1);
+                int weightY = nextRow == row ? 0 : (int) Math.round((position - row) * 256);
+                int row0 = row * stride;
+                int row1 = nextRow * stride;
+                int o = y * outStride;
+                for (int x = 0; x < targetWidth; x++) {
+                    int upper = lerp(in[row0 + left[x]], in[row0 + right[x]], weightX[x]);
+                    int lower = lerp(in[row1 + left[x]], in[row1 + right[x]], weightX[x]);
+                    out[o + x] = lerp(upper, lower, weightY);
+                }
+            }
+        });
+    }
+
+    /**
+     * 두 RGB 픽셀의 가중 평균 (weight: b의 비중, 0~256)
+     * - R/B와 G를 나누어 한 번에 계산합니다. (채널 곱이 16비트를 넘지 않아 서로 겹치지 않음)
+     */
+    private static int lerp(int a, int b, int weight) {
+        int inverse = 256 - weight;
+        int redBlue = ((a & 0xFF00FF) * inverse + (b & 0xFF00FF) * weight + 0x800080) >>> 8;
+        int green = ((a & 0xFF00) * inverse + (b & 0xFF00) * weight + 0x8000) >>> 8;
+        return (redBlue & 0xFF00FF) | (green & 0xFF00);
+    }
+
+    /**
+     * 래스터 배열을 (0,0)부터 그대로 읽을 수 있는지 (하위 이미지가 아님)
+     */
+    private static boolean hasPlainRaster(BufferedImage image) {
+        WritableRaster raster = image.getRaster();
+        return raster.getParent() == null && raster.getDataBuffer().getOffset() == 0;
+    }
+
+    /**
+     * source 영역을 target 영역에 그림
+     * - 대상 영역을 배경색으로 채운 뒤 그리므로(Src 합성), 재사용 중인 스크래치 버퍼의 이전 내용이 비쳐 보이지 않습니다.
+     */
+    private void draw(BufferedImage source, int sx1, int sy1, int sx2, int sy2,
+                      BufferedImage target, int dx1, int dy1, int dx2, int dy2) {
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.setColor(BACKGROUND);
+            g2d.fillRect(dx1, dy1, dx2 - dx1, dy2 - dy1);
+            g2d.setComposite(AlphaComposite.SrcOver);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(source, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, null);
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdown();
+    }
+
+    // 띠 하나를 그리는 작업 (결과 이미지의 [top, bottom) 행)
+    private interface Band {
+        void render(int top, int bottom);
+    }
+
+    /**
+     * 리샘플링 작업 간에 재사용하는 스크래치 버퍼
+     * - 두 버퍼를 번갈아 사용하여, 한 단계에서 같은 버퍼를 읽고 쓰지 않도록 합니다.
+     * - 필요한 크기 이상이면 그대로 쓰고, 부족할 때만 새로 할당합니다.
+     * - 이전 내용은 지우지 않으므로, 쓰는 쪽에서 대상 영역 전체를 덮어써야 합니다.
+     */
+    private static final class Scratch {
+
+        private final BufferedImage[] images = new BufferedImage[2];
+        private int next;
+
+        BufferedImage obtain(int width, int height) {
+            int index = next;
+            next = 1 - next;
+            BufferedImage image = images[index];
+            if (image == null || image.getWidth() < width || image.getHeight() < height) {
+                image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                images[index] = image;
+            }
+            return image;
+        }
+
+        /**
+         * 한도보다 큰 버퍼는 버림 (큰 원본 한 장 때문에 큰 버퍼가 계속 남지 않도록)
+         */
+        void trim(long maxPixels) {
+            for (int i = 0; i < images.length; i++) {
+                if (images[i] != null && (long) images[i].getWidth() * images[i].getHeight() > maxPixels) {
+                    images[i] = null;
+                }
+            }
+        }
+    }
+}
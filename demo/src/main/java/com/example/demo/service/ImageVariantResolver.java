@@ -0,0 +1,63 @@
+// src/main/java/com/example/demo/service/ImageVariantResolver.java
+package com.example.demo.service;
+
+import com.example.demo.dto.ImageVariantSet;
+import com.example.demo.service.FileStorageService.ThumbnailSize;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 이미지 URL에서 반응형 변형 묶음 생성
+ * - 저장소에 있는 업로드 이미지만 ThumbnailSize별 변형을 만들고, 그 외에는 원본만 사용합니다.
+ * - 변형 URL은 FileStorageService.getThumbnailUrl을 따릅니다. (미리 생성된 썸네일 또는 /images/r/ 리사이즈)
+ * - 원본 해상도를 알면(ImageAssetIndex) 실제 축소 결과의 폭을 srcset에 쓰고, 원본도 후보에 넣습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageVariantResolver {
+
+    private final FileStorageService fileStorageService;
+
+    public ImageVariantSet resolve(String imageUrl) {
+        if (imageUrl == null) {
+            return null;
+        }
+        // 저장소에 없는 파일(외부 URL, 클래스패스 기본 이미지)은 원본만 사용
+        ImageAssetIndex.Metadata metadata = fileStorageService.getImageMetadata(imageUrl);
+        if (metadata == null) {
+            return new ImageVariantSet(imageUrl, List.of());
+        }
+
+        List<ImageVariantSet.Variant> variants = new ArrayList<>();
+        Set<Integer> widths = new HashSet<>();
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            String url = fileStorageService.getThumbnailUrl(imageUrl, size);
+            // 썸네일이 아직 없어 원본을 돌려준 경우는 변형으로 취급하지 않음
+            if (url == null || url.equals(imageUrl)) {
+                continue;
+            }
+            int width = metadata.hasDimensions() ? scaledWidth(metadata, size) : size.width;
+            // 원본이 작아 같은 폭으로 나오는 변형은 하나만 사용
+            if (widths.add(width)) {
+                variants.add(new ImageVariantSet.Variant(url, width));
+            }
+        }
+        if (metadata.hasDimensions() && !variants.isEmpty() && widths.add(metadata.width())) {
+            variants.add(new ImageVariantSet.Variant(imageUrl, metadata.width()));
+        }
+        return new ImageVariantSet(imageUrl, metadata.width(), metadata.height(), variants);
+    }
+
+    /**
+     * 상자 안에 비율을 유지해 축소했을 때의 폭 (확대하지 않음)
+     */
+    private int scaledWidth(ImageAssetIndex.Metadata metadata, ThumbnailSize size) {
+        double scale = Math.min(1.0, Math.min((double) size.width / metadata.width(), (double) size.height / metadata.height()));
+        return Math.max(1, (int) Math.round(metadata.width() * scale));
+    }
+}
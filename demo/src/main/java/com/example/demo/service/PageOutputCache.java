@@ -0,0 +1,141 @@
+// src/main/java/com/example/demo/service/PageOutputCache.java
+package com.example.demo.service;
+
+import com.example.demo.event.PortfolioChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 메인 페이지 출력 캐시
+ * - 렌더링된 HTML을 원본(identity)과 gzip 두 가지 형태로 direct buffer(off-heap)에 보관합니다.
+ * - 포트폴리오 콘텐츠 버전을 키로 사용하며, 버전이 바뀌면 자동으로 미스 처리됩니다.
+ */
+@Slf4j
+@Component
+public class PageOutputCache {
+
+    private final boolean enabled;
+    private final AtomicReference<CachedPage> current = new AtomicReference<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+
+    public PageOutputCache(@Value("${app.portfolio.cache.page-enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주어진 콘텐츠 버전의 캐시된 페이지 조회 (없으면 null)
+     */
+    public CachedPage get(long version) {
+        CachedPage page = current.get();
+        if (page != null && page.version() == version) {
+            hits.incrementAndGet();
+            return page;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 렌더링 결과 저장 (더 최신 버전이 이미 있으면 그것을 유지)
+     */
+    public CachedPage put(long version, byte[] html, String contentType) {
+        CachedPage page = new CachedPage(version, contentType, createEtag(html),
+                toDirectBuffer(html), toDirectBuffer(gzip(html)));
+        CachedPage stored = current.accumulateAndGet(page,
+                (existing, fresh) -> existing != null && existing.version() > fresh.version() ? existing : fresh);
+        log.debug("메인 페이지 캐시 저장: version={}, identity={}B, gzip={}B",
+                version, page.identityBody().capacity(), page.gzipBody().capacity());
+        return stored.version() == version ? stored : page;
+    }
+
+    public void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    /**
+     * 변경 트랜잭션 커밋 후 캐시 비우기
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        current.set(null);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getNotModifiedCount() {
+        return notModified.get();
+    }
+
+    /**
+     * 현재 캐시된 페이지 크기 (identity, gzip 합계)
+     */
+    public long getCachedBytes() {
+        CachedPage page = current.get();
+        return page == null ? 0 : page.identityBody().capacity() + page.gzipBody().capacity();
+    }
+
+    private static String createEtag(byte[] html) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(html);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] html) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(html.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(html);
+        } catch (IOException e) {
+            throw new UncheckedIOException("페이지 압축 중 오류가 발생했습니다.", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static ByteBuffer toDirectBuffer(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * 캐시된 페이지 (버퍼는 읽기 전용이며, 사용할 때는 duplicate()로 위치를 분리합니다)
+     */
+    public record CachedPage(long version, String contentType, String etagValue,
+                             ByteBuffer identityBody, ByteBuffer gzipBody) {
+
+        /**
+         * 표현(representation)별 strong ETag
+         */
+        public String etag(boolean gzip) {
+            return "\"" + etagValue + (gzip ? "-gz" : "") + "\"";
+        }
+    }
+}
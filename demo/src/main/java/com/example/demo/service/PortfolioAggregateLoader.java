@@ -0,0 +1,58 @@
+// src/main/java/com/example/demo/service/PortfolioAggregateLoader.java
+package com.example.demo.service;
+
+import com.example.demo.dto.PortfolioProfileDto;
+import com.example.demo.dto.PortfolioResponse;
+import com.example.demo.dto.ProjectDto;
+import com.example.demo.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포트폴리오 집합(aggregate) 로더
+ * - 여러 컬렉션을 한 번에 fetch join하면 행이 곱으로 늘어나므로(카테시안 곱),
+ *   루트와 각 연관 컬렉션을 연관관계마다 한 번씩 조회한 뒤 조립합니다.
+ * - 프로젝트 상세 정보는 모달에서 /api/projects/{id}/details로 나눠 받으므로 집합에 포함하지 않습니다.
+ * - 모든 조회는 JPQL 생성자 표현식으로 DTO를 바로 만들어, 엔티티 영속화/변경 감지 비용이 없습니다.
+ * - 컬렉션 크기와 상관없이 최대 6개의 쿼리만 실행됩니다.
+ * - 이미지 URL마다 반응형 변형(srcset)을 함께 채웁니다. (쿼리 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioAggregateLoader {
+
+    private final PortfolioDataRepository portfolioDataRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final EducationRepository educationRepository;
+    private final CareerRepository careerRepository;
+    private final CertificationRepository certificationRepository;
+    private final ImageVariantResolver imageVariantResolver;
+
+    @Transactional(readOnly = true)
+    public Optional<PortfolioResponse> load(Long portfolioId) {
+        Optional<PortfolioProfileDto> profile = portfolioDataRepository.findProfileById(portfolioId);
+        if (profile.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new PortfolioResponse(
+                profile.get(),
+                skillRepository.findDtosByPortfolioId(portfolioId),
+                loadProjects(portfolioId),
+                educationRepository.findDtosByPortfolioId(portfolioId),
+                careerRepository.findDtosByPortfolioId(portfolioId),
+                certificationRepository.findDtosByPortfolioId(portfolioId),
+                imageVariantResolver.resolve(profile.get().getProfileImageUrl())));
+    }
+
+    private List<ProjectDto> loadProjects(Long portfolioId) {
+        return projectRepository.findDtosByPortfolioId(portfolioId).stream()
+                .map(project -> project.withThumbnail(imageVariantResolver.resolve(project.getThumbnailUrl())))
+                .toList();
+    }
+}
@@ -3,11 +3,21 @@ package com.example.demo.service;
 
 import com.example.demo.domain.*;
 import com.example.demo.dto.*;
+import com.example.demo.event.PortfolioChangedEvent;
 import com.example.demo.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,16 +30,30 @@ public class PortfolioService {
     private final ProjectRepository projectRepository;
     private final ProjectDetailRepository projectDetailRepository;
     private final SkillRepository skillRepository;
-    private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
+    private final ImageVariantResolver imageVariantResolver;
+    private final PortfolioSnapshotCache snapshotCache;
+    private final PortfolioAggregateLoader aggregateLoader;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 포트폴리오 조회 (스냅샷 캐시 우선)
+     * - 캐시 적중 시 트랜잭션/커넥션 없이 반환되도록 SUPPORTS 전파를 사용합니다.
+     * - 캐시 미스 시 PortfolioAggregateLoader가 고정된 수의 쿼리로 조회합니다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PortfolioResponse findPortfolio(Long id) {
-        return portfolioDataRepository.findById(id)
-                .map(PortfolioResponse::new)
+        return snapshotCache.get(id, this::loadPortfolio);
+    }
+
+    private PortfolioResponse loadPortfolio(Long id) {
+        return aggregateLoader.load(id)
                 .orElseThrow(() -> new IllegalArgumentException("포트폴리오 정보를 찾을 수 없습니다. id=" + id));
     }
 
     @Transactional
     public void updatePortfolio(Long portfolioId, PortfolioUpdateRequest request, String newImageUrl) {
+        markChanged("updatePortfolio");
         PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
         portfolio.setName(request.getName());
         portfolio.setJobTitle(request.getJobTitle());
@@ -46,14 +70,32 @@ public class PortfolioService {
 
     @Transactional
     public void deleteProfileImage(Long portfolioId) {
+        markChanged("deleteProfileImage");
         PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
-        fileStorageService.deleteFile(portfolio.getProfileImageUrl());
-        portfolio.setProfileImageUrl("/images/default-profile.png");
+        String oldImageUrl = portfolio.getProfileImageUrl();
+        portfolio.setProfileImageUrl(PortfolioData.DEFAULT_PROFILE_IMAGE_URL);
+        releaseImage(oldImageUrl);
+    }
+
+    /**
+     * 프로필 이미지 교체 (분할 업로드 완료 시 사용)
+     * - 이전 이미지는 참조 해제하며, 같은 파일(내용 주소 중복)이면 해제하지 않습니다.
+     */
+    @Transactional
+    public void replaceProfileImage(Long portfolioId, String imageUrl) {
+        markChanged("replaceProfileImage");
+        PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
+        String oldImageUrl = portfolio.getProfileImageUrl();
+        portfolio.setProfileImageUrl(imageUrl);
+        if (!imageUrl.equals(oldImageUrl)) {
+            releaseImage(oldImageUrl);
+        }
     }
 
     // --- Career CRUD ---
     @Transactional
     public Career addCareer(Long portfolioId, CareerCreateRequest request) {
+        markChanged("addCareer");
         PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
         Career newCareer = new Career(request.getCompany(), request.getPosition(), request.getPeriod(), request.getDescription(), portfolio);
         return careerRepository.save(newCareer);
@@ -66,6 +108,7 @@ public class PortfolioService {
 
     @Transactional
     public Career updateCareer(Long careerId, CareerCreateRequest request) {
+        markChanged("updateCareer");
         Career career = careerRepository.findById(careerId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 경력 없음: " + careerId));
         career.setCompany(request.getCompany());
         career.setPosition(request.getPosition());
@@ -76,12 +119,14 @@ public class PortfolioService {
 
     @Transactional
     public void deleteCareer(Long portfolioId, Long careerId) {
+        markChanged("deleteCareer");
         careerRepository.deleteById(careerId);
     }
 
     // --- Education CRUD ---
     @Transactional
     public Education addEducation(Long portfolioId, EducationCreateRequest request) {
+        markChanged("addEducation");
         PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
         Education newEducation = new Education(request.getInstitution(), request.getCourse(), request.getPeriod(), request.getDescription(), portfolio);
         return educationRepository.save(newEducation);
@@ -94,6 +139,7 @@ public class PortfolioService {
 
     @Transactional
     public Education updateEducation(Long educationId, EducationCreateRequest request) {
+        markChanged("updateEducation");
         Education education = educationRepository.findById(educationId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 학력 없음: " + educationId));
         education.setInstitution(request.getInstitution());
         education.setCourse(request.getCourse());
@@ -104,12 +150,14 @@ public class PortfolioService {
 
     @Transactional
     public void deleteEducation(Long educationId) {
+        markChanged("deleteEducation");
         educationRepository.deleteById(educationId);
     }
 
     // --- Certification CRUD ---
     @Transactional
     public Certification addCertification(Long portfolioId, CertificationCreateRequest request) {
+        markChanged("addCertification");
         PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
         Certification newCertification = new Certification(request.getName(), request.getIssuer(), request.getAcquisitionDate(), portfolio);
         return certificationRepository.save(newCertification);
@@ -122,6 +170,7 @@ public class PortfolioService {
 
     @Transactional
     public Certification updateCertification(Long certificationId, CertificationCreateRequest request) {
+        markChanged("updateCertification");
         Certification certification = certificationRepository.findById(certificationId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 자격증 없음: " + certificationId));
         certification.setName(request.getName());
         certification.setIssuer(request.getIssuer());
@@ -131,12 +180,14 @@ public class PortfolioService {
 
     @Transactional
     public void deleteCertification(Long certificationId) {
+        markChanged("deleteCertification");
         certificationRepository.deleteById(certificationId);
     }
 
     // --- Project CRUD ---
     @Transactional
     public Project addProject(Long portfolioId, ProjectCreateRequest request) {
+        markChanged("addProject");
         PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
         Project newProject = new Project(request.getName(), request.getPeriod(), request.getDescription(), request.getTechStack(), request.getProjectUrl(), request.getTeamInfo(), portfolio);
         return projectRepository.save(newProject);
@@ -149,6 +200,7 @@ public class PortfolioService {
 
     @Transactional
     public Project updateProject(Long projectId, ProjectCreateRequest request, String thumbnailUrl) {
+        markChanged("updateProject");
         Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId));
         project.setName(request.getName());
         project.setPeriod(request.getPeriod());
@@ -164,24 +216,104 @@ public class PortfolioService {
 
     @Transactional
     public void deleteProject(Long projectId) {
-        Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId));
-        fileStorageService.deleteFile(project.getThumbnailUrl());
-        project.getDetails().forEach(detail -> fileStorageService.deleteFile(detail.getImageUrl()));
-        projectRepository.deleteById(projectId);
+        if (deleteProjects(List.of(projectId)) == 0) {
+            throw new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId);
+        }
+    }
+
+    /**
+     * 여러 프로젝트 일괄 삭제 (엔티티를 읽지 않는 집합 단위 DELETE)
+     * - 이미지 URL 조회 1회 + 상세 정보 DELETE 1회 + 프로젝트 DELETE 1회로, 상세 정보 수와 관계없이 일정합니다.
+     * - 없는 ID는 무시하며, 실제로 삭제된 프로젝트 수를 반환합니다.
+     */
+    @Transactional
+    public int deleteProjects(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> existingIds = new LinkedHashSet<>();
+        Set<String> imageUrls = new LinkedHashSet<>();
+        for (Object[] row : projectRepository.findImageUrlsByIdIn(projectIds)) {
+            existingIds.add((Long) row[0]);
+            imageUrls.add((String) row[1]);
+            imageUrls.add((String) row[2]);
+        }
+        if (existingIds.isEmpty()) {
+            return 0;
+        }
+        markChanged("deleteProjects");
+        projectDetailRepository.deleteByProjectIdIn(existingIds);
+        int deleted = projectRepository.deleteByIdIn(existingIds);
+        releaseImages(imageUrls);
+        return deleted;
     }
 
     @Transactional
     public ProjectDetail addProjectDetail(Long projectId, String imageUrl, String description) {
+        markChanged("addProjectDetail");
         Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId));
         ProjectDetail newDetail = new ProjectDetail(imageUrl, description, project);
         return projectDetailRepository.save(newDetail);
     }
 
+    /**
+     * 상세 정보 일괄 추가 (한 트랜잭션, saveAll로 INSERT 배치)
+     * - imageUrls와 descriptions는 같은 순서/길이여야 합니다.
+     */
+    @Transactional
+    public List<ProjectDetail> addProjectDetails(Long projectId, List<String> imageUrls, List<String> descriptions) {
+        if (imageUrls.size() != descriptions.size()) {
+            throw new IllegalArgumentException("이미지와 설명의 개수가 일치하지 않습니다.");
+        }
+        markChanged("addProjectDetails");
+        Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId));
+        List<ProjectDetail> newDetails = new ArrayList<>(imageUrls.size());
+        for (int i = 0; i < imageUrls.size(); i++) {
+            newDetails.add(new ProjectDetail(imageUrls.get(i), descriptions.get(i), project));
+        }
+        return projectDetailRepository.saveAll(newDetails);
+    }
+
     @Transactional
     public void deleteProjectDetail(Long projectDetailId) {
+        markChanged("deleteProjectDetail");
         ProjectDetail detail = projectDetailRepository.findById(projectDetailId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 상세 정보 없음: " + projectDetailId));
-        fileStorageService.deleteFile(detail.getImageUrl());
-        projectDetailRepository.deleteById(projectDetailId);
+        String imageUrl = detail.getImageUrl();
+        projectDetailRepository.delete(detail);
+        releaseImage(imageUrl);
+    }
+
+    /**
+     * 프로젝트의 상세 정보 전체 삭제 (집합 단위 DELETE, 삭제된 수 반환)
+     */
+    @Transactional
+    public int deleteProjectDetails(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId);
+        }
+        List<String> imageUrls = projectDetailRepository.findImageUrlsByProjectId(projectId);
+        if (imageUrls.isEmpty()) {
+            return 0;
+        }
+        markChanged("deleteProjectDetails");
+        int deleted = projectDetailRepository.deleteByProjectIdIn(List.of(projectId));
+        releaseImages(imageUrls);
+        return deleted;
+    }
+
+    /**
+     * 프로젝트 상세 정보 페이지 조회 (키셋 페이지네이션)
+     */
+    public ProjectDetailPageResponse findProjectDetailPage(Long projectId, Long afterId, int size) {
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<ProjectDetailDto> rows = projectDetailRepository.findDtosAfter(projectId, afterId, PageRequest.of(0, size + 1)).stream()
+                .map(detail -> detail.withImage(imageVariantResolver.resolve(detail.getImageUrl())))
+                .toList();
+        if (rows.size() <= size) {
+            return new ProjectDetailPageResponse(rows, null);
+        }
+        List<ProjectDetailDto> page = rows.subList(0, size);
+        return new ProjectDetailPageResponse(List.copyOf(page), page.get(size - 1).getId());
     }
 
     public Long findProjectByDetailId(Long projectDetailId) {
@@ -191,14 +323,32 @@ public class PortfolioService {
 
     @Transactional
     public void deleteProjectThumbnail(Long projectId) {
+        markChanged("deleteProjectThumbnail");
         Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId));
-        fileStorageService.deleteFile(project.getThumbnailUrl());
+        String oldThumbnailUrl = project.getThumbnailUrl();
         project.setThumbnailUrl(null);
+        releaseImage(oldThumbnailUrl);
+    }
+
+    /**
+     * 프로젝트 썸네일 교체 (분할 업로드 완료 시 사용)
+     * - 이전 썸네일은 참조 해제하며, 같은 파일(내용 주소 중복)이면 해제하지 않습니다.
+     */
+    @Transactional
+    public void replaceProjectThumbnail(Long projectId, String thumbnailUrl) {
+        markChanged("replaceProjectThumbnail");
+        Project project = projectRepository.findById(projectId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 프로젝트 없음: " + projectId));
+        String oldThumbnailUrl = project.getThumbnailUrl();
+        project.setThumbnailUrl(thumbnailUrl);
+        if (!thumbnailUrl.equals(oldThumbnailUrl)) {
+            releaseImage(oldThumbnailUrl);
+        }
     }
 
     // --- Skill CRUD ---
     @Transactional
     public Skill addSkill(Long portfolioId, SkillCreateRequest request) {
+        markChanged("addSkill");
         PortfolioData portfolio = portfolioDataRepository.findById(portfolioId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
         Skill newSkill = new Skill(request.getCategory(), request.getName(), portfolio);
         return skillRepository.save(newSkill);
@@ -211,6 +361,7 @@ public class PortfolioService {
 
     @Transactional
     public Skill updateSkill(Long skillId, SkillCreateRequest request) {
+        markChanged("updateSkill");
         Skill skill = skillRepository.findById(skillId).orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 스킬 없음: " + skillId));
         skill.setCategory(request.getCategory());
         skill.setName(request.getName());
@@ -219,6 +370,27 @@ public class PortfolioService {
 
     @Transactional
     public void deleteSkill(Long skillId) {
+        markChanged("deleteSkill");
         skillRepository.deleteById(skillId);
     }
+
+    /**
+     * 이미지 참조 해제 (삭제 요청만 기록)
+     * - 실제 파일 삭제는 커밋 후 FileDeletionQueue가 참조 수를 확인한 뒤 수행합니다.
+     * - 트랜잭션이 롤백되면 삭제 요청도 함께 취소됩니다.
+     */
+    private void releaseImage(String imageUrl) {
+        fileDeletionQueue.release(imageUrl);
+    }
+
+    private void releaseImages(Collection<String> imageUrls) {
+        fileDeletionQueue.releaseAll(imageUrls);
+    }
+
+    /**
+     * 변경 이벤트 발행 (커밋 후 스냅샷 캐시 무효화)
+     */
+    private void markChanged(String reason) {
+        eventPublisher.publishEvent(new PortfolioChangedEvent(reason));
+    }
 }
\ No newline at end of file
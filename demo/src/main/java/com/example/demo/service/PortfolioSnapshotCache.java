@@ -0,0 +1,113 @@
+// src/main/java/com/example/demo/service/PortfolioSnapshotCache.java
+package com.example.demo.service;
+
+import com.example.demo.dto.PortfolioResponse;
+import com.example.demo.event.PortfolioChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 공개 페이지용 포트폴리오 스냅샷 캐시
+ * - 포트폴리오별로 미리 만들어 둔 불변 PortfolioResponse를 메모리에 보관합니다.
+ * - 쓰기 트랜잭션이 커밋되면 버전을 올리고 스냅샷을 폐기하여, 다음 조회 시 새 스냅샷으로 교체됩니다.
+ */
+@Slf4j
+@Component
+public class PortfolioSnapshotCache {
+
+    private final boolean enabled;
+    private final Duration ttl;
+
+    // 콘텐츠 버전 (변경이 커밋될 때마다 증가)
+    // 재시작 후에도 이전 ETag와 겹치지 않도록 기동 시각에서 시작합니다.
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final ConcurrentMap<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PortfolioSnapshotCache(
+            @Value("${app.portfolio.cache.enabled:true}") boolean enabled,
+            @Value("${app.portfolio.cache.ttl:3600}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 스냅샷 조회 (없거나 만료된 경우 loader로 새로 생성)
+     */
+    public PortfolioResponse get(Long portfolioId, Function<Long, PortfolioResponse> loader) {
+        if (!enabled) {
+            return loader.apply(portfolioId);
+        }
+
+        long currentVersion = version.get();
+        Snapshot snapshot = snapshots.get(portfolioId);
+        if (snapshot != null && snapshot.isValid(currentVersion, ttl)) {
+            hits.incrementAndGet();
+            return snapshot.response();
+        }
+
+        misses.incrementAndGet();
+        PortfolioResponse loaded = loader.apply(portfolioId);
+        Snapshot fresh = new Snapshot(loaded, currentVersion, Instant.now());
+
+        // 로딩 중에 다른 변경이 커밋되었다면 오래된 스냅샷을 저장하지 않음
+        snapshots.compute(portfolioId, (id, existing) ->
+                version.get() == currentVersion ? fresh : existing);
+
+        return loaded;
+    }
+
+    /**
+     * 전체 스냅샷 무효화
+     */
+    public void invalidateAll() {
+        long newVersion = version.incrementAndGet();
+        snapshots.clear();
+        log.debug("포트폴리오 스냅샷 무효화: version={}", newVersion);
+    }
+
+    /**
+     * 변경 트랜잭션 커밋 후 스냅샷 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        log.debug("포트폴리오 변경 감지: {}", event.reason());
+        invalidateAll();
+    }
+
+    /**
+     * 현재 콘텐츠 버전
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * 캐시된 스냅샷 (응답 + 생성 당시 버전)
+     */
+    private record Snapshot(PortfolioResponse response, long version, Instant createdAt) {
+
+        boolean isValid(long currentVersion, Duration ttl) {
+            return version == currentVersion && createdAt.plus(ttl).isAfter(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,466 @@
+// src/main/java/com/example/demo/service/PortfolioTransferService.java
+package com.example.demo.service;
+
+import com.example.demo.domain.*;
+import com.example.demo.dto.*;
+import com.example.demo.event.PortfolioChangedEvent;
+import com.example.demo.repository.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 포트폴리오 전체(기본 정보 + 모든 하위 데이터) JSON 내보내기/가져오기
+ * - 내보내기: 컬렉션을 키셋 페이지 단위 DTO 프로젝션으로 읽어 JsonGenerator로 바로 씁니다.
+ * - 가져오기: JsonParser로 한 항목씩 읽어 저장하고, JDBC 배치 크기마다 flush/clear 합니다. (한 트랜잭션)
+ *   기존 포트폴리오를 지정하면 기본 정보를 덮어쓰고 하위 데이터를 모두 바꿉니다. (공개 페이지와 관리자는 같은 ID를 계속 사용)
+ * - 어느 쪽이든 전체 포트폴리오를 메모리에 올리지 않으므로 데이터 크기와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+public class PortfolioTransferService {
+
+    static final int FORMAT_VERSION = 1;
+
+    private final PortfolioDataRepository portfolioDataRepository;
+    private final SkillRepository skillRepository;
+    private final CareerRepository careerRepository;
+    private final EducationRepository educationRepository;
+    private final CertificationRepository certificationRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectDetailRepository projectDetailRepository;
+    private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int pageSize;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PortfolioTransferService(PortfolioDataRepository portfolioDataRepository,
+                                    SkillRepository skillRepository,
+                                    CareerRepository careerRepository,
+                                    EducationRepository educationRepository,
+                                    CertificationRepository certificationRepository,
+                                    ProjectRepository projectRepository,
+                                    ProjectDetailRepository projectDetailRepository,
+                                    FileStorageService fileStorageService,
+                                    FileDeletionQueue fileDeletionQueue,
+                                    ObjectMapper objectMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${app.portfolio.transfer.page-size:500}") int pageSize,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize) {
+        this.portfolioDataRepository = portfolioDataRepository;
+        this.skillRepository = skillRepository;
+        this.careerRepository = careerRepository;
+        this.educationRepository = educationRepository;
+        this.certificationRepository = certificationRepository;
+        this.projectRepository = projectRepository;
+        this.projectDetailRepository = projectDetailRepository;
+        this.fileStorageService = fileStorageService;
+        this.fileDeletionQueue = fileDeletionQueue;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.pageSize = Math.max(1, pageSize);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    // ==================== 내보내기 ====================
+
+    /**
+     * 포트폴리오를 JSON으로 스트리밍 출력
+     * - 포트폴리오가 없으면 아무것도 쓰기 전에 IllegalArgumentException을 던집니다.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> export(Long portfolioId, OutputStream out) throws IOException {
+        PortfolioProfileDto profile = portfolioDataRepository.findProfileById(portfolioId)
+                .orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
+
+        long started = System.nanoTime();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("format_version", FORMAT_VERSION);
+
+            generator.writeObjectFieldStart("portfolio");
+            generator.writeStringField("name", profile.getName());
+            generator.writeStringField("job_title", profile.getJobTitle());
+            generator.writeStringField("philosophy", profile.getPhilosophy());
+            generator.writeStringField("birth", profile.getBirth());
+            generator.writeStringField("address", profile.getAddress());
+            generator.writeStringField("email", profile.getEmail());
+            generator.writeStringField("phone", profile.getPhone());
+            generator.writeStringField("github_url", profile.getGithubUrl());
+            generator.writeStringField("profile_image_url", profile.getProfileImageUrl());
+            generator.writeEndObject();
+            counts.put("portfolio", 1);
+
+            counts.put("skills", writePaged(generator, "skills",
+                    (afterId, page) -> skillRepository.findDtosAfter(portfolioId, afterId, page), SkillDto::getId,
+                    (g, skill) -> {
+                        g.writeStringField("category", skill.getCategory());
+                        g.writeStringField("name", skill.getName());
+                    }));
+            counts.put("careers", writePaged(generator, "careers",
+                    (afterId, page) -> careerRepository.findDtosAfter(portfolioId, afterId, page), CareerDto::getId,
+                    (g, career) -> {
+                        g.writeStringField("company", career.getCompany());
+                        g.writeStringField("position", career.getPosition());
+                        g.writeStringField("period", career.getPeriod());
+                        g.writeStringField("description", career.getDescription());
+                    }));
+            counts.put("educations", writePaged(generator, "educations",
+                    (afterId, page) -> educationRepository.findDtosAfter(portfolioId, afterId, page), EducationDto::getId,
+                    (g, education) -> {
+                        g.writeStringField("institution", education.getInstitution());
+                        g.writeStringField("course", education.getCourse());
+                        g.writeStringField("period", education.getPeriod());
+                        g.writeStringField("description", education.getDescription());
+                    }));
+            counts.put("certifications", writePaged(generator, "certifications",
+                    (afterId, page) -> certificationRepository.findDtosAfter(portfolioId, afterId, page), CertificationDto::getId,
+                    (g, certification) -> {
+                        g.writeStringField("name", certification.getName());
+                        g.writeStringField("issuer", certification.getIssuer());
+                        g.writeStringField("acquisition_date", certification.getAcquisitionDate());
+                    }));
+
+            int[] details = new int[1];
+            counts.put("projects", writePaged(generator, "projects",
+                    (afterId, page) -> projectRepository.findDtosAfter(portfolioId, afterId, page), ProjectDto::getId,
+                    (g, project) -> {
+                        g.writeStringField("name", project.getName());
+                        g.writeStringField("period", project.getPeriod());
+                        g.writeStringField("description", project.getDescription());
+                        g.writeStringField("tech_stack", project.getTechStack());
+                        g.writeStringField("project_url", project.getProjectUrl());
+                        g.writeStringField("team_info", project.getTeamInfo());
+                        g.writeStringField("thumbnail_url", project.getThumbnailUrl());
+                        // 상세 정보는 프로젝트의 마지막 필드 (가져오기에서 프로젝트를 먼저 저장하기 위함)
+                        details[0] += writePaged(g, "details",
+                                (afterId, page) -> projectDetailRepository.findDtosAfter(project.getId(), afterId, page),
+                                ProjectDetailDto::getId,
+                                (dg, detail) -> {
+                                    dg.writeStringField("image_url", detail.getImageUrl());
+                                    dg.writeStringField("description", detail.getDescription());
+                                });
+                    }));
+            counts.put("details", details[0]);
+
+            generator.writeEndObject();
+        }
+
+        Map<String, Object> result = transferResult(portfolioId, counts, started);
+        log.info("포트폴리오 내보내기 완료: {}", result);
+        return result;
+    }
+
+    /**
+     * 키셋 페이지 단위로 조회하며 배열 필드 출력 (한 페이지만 메모리에 유지)
+     */
+    private <T> int writePaged(JsonGenerator generator, String field,
+                               BiFunction<Long, Pageable, List<T>> pageLoader,
+                               Function<T, Long> idOf, RowWriter<T> rowWriter) throws IOException {
+        generator.writeArrayFieldStart(field);
+        Pageable page = PageRequest.of(0, pageSize);
+        long afterId = 0L;
+        int written = 0;
+        while (true) {
+            List<T> rows = pageLoader.apply(afterId, page);
+            for (T row : rows) {
+                generator.writeStartObject();
+                rowWriter.write(generator, row);
+                generator.writeEndObject();
+            }
+            written += rows.size();
+            if (rows.size() < pageSize) {
+                break;
+            }
+            afterId = idOf.apply(rows.get(rows.size() - 1));
+        }
+        generator.writeEndArray();
+        return written;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(JsonGenerator generator, T row) throws IOException;
+    }
+
+    // ==================== 가져오기 ====================
+
+    /**
+     * JSON을 스트리밍으로 읽어 포트폴리오로 저장 (한 트랜잭션, 실패 시 전체 롤백)
+     * - portfolioId를 지정하면 그 포트폴리오의 기본 정보를 덮어쓰고 하위 데이터를 모두 교체합니다. (null이면 새로 생성)
+     * - 형식은 export 출력과 같으며, "portfolio"가 컬렉션보다 먼저 와야 합니다.
+     * - /images/ 이미지 URL은 이 환경의 저장소에 파일이 있어야 하며, 외부 URL은 http(s)만 허용합니다.
+     * - 교체로 빠진 기존 이미지는 커밋 후 참조가 없을 때만 삭제됩니다.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public Map<String, Object> importPortfolio(Long portfolioId, InputStream in) throws IOException {
+        long started = System.nanoTime();
+        Set<String> replacedImageUrls = new LinkedHashSet<>();
+        if (portfolioId != null) {
+            PortfolioProfileDto profile = portfolioDataRepository.findProfileById(portfolioId)
+                    .orElseThrow(() -> new IllegalArgumentException("ID에 해당하는 포트폴리오 없음: " + portfolioId));
+            replacedImageUrls.add(profile.getProfileImageUrl());
+            replacedImageUrls.addAll(deleteChildren(portfolioId));
+        }
+
+        Importer importer = new Importer(portfolioId);
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            importer.read(parser);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        fileDeletionQueue.releaseAll(replacedImageUrls);
+
+        eventPublisher.publishEvent(new PortfolioChangedEvent("importPortfolio"));
+        Map<String, Object> result = transferResult(importer.portfolioId, importer.counts, started);
+        log.info("포트폴리오 가져오기 완료: {}", result);
+        return result;
+    }
+
+    /**
+     * 기존 하위 데이터 일괄 삭제 (집합 단위 DELETE), 참조하던 이미지 URL 반환
+     */
+    private Set<String> deleteChildren(Long portfolioId) {
+        Set<String> imageUrls = new LinkedHashSet<>();
+        List<Long> projectIds = projectRepository.findIdsByPortfolioId(portfolioId);
+        if (!projectIds.isEmpty()) {
+            for (Object[] row : projectRepository.findImageUrlsByIdIn(projectIds)) {
+                imageUrls.add((String) row[1]);
+                imageUrls.add((String) row[2]);
+            }
+            projectDetailRepository.deleteByProjectIdIn(projectIds);
+            projectRepository.deleteByIdIn(projectIds);
+        }
+        skillRepository.deleteByPortfolioId(portfolioId);
+        careerRepository.deleteByPortfolioId(portfolioId);
+        educationRepository.deleteByPortfolioId(portfolioId);
+        certificationRepository.deleteByPortfolioId(portfolioId);
+        imageUrls.remove(null);
+        return imageUrls;
+    }
+
+    /**
+     * 가져오기 한 번의 진행 상태 (저장한 행 수, 현재 포트폴리오/프로젝트 ID)
+     */
+    private class Importer {
+
+        private final Map<String, Integer> counts = new LinkedHashMap<>();
+        private final Long targetId;
+        private Long portfolioId;
+        private int pending;
+
+        Importer(Long targetId) {
+            this.targetId = targetId;
+        }
+
+        void read(JsonParser parser) throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("포트폴리오 JSON은 객체여야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "format_version" -> {
+                        if (parser.getIntValue() != FORMAT_VERSION) {
+                            throw new IllegalArgumentException("지원하지 않는 형식 버전입니다: " + parser.getText());
+                        }
+                    }
+                    case "portfolio" -> readPortfolio(objectMapper.readTree(parser));
+                    case "skills" -> readArray(parser, field, node -> persist("skills",
+                            new Skill(text(node, "category"), text(node, "name"), portfolio())));
+                    case "careers" -> readArray(parser, field, node -> persist("careers",
+                            new Career(text(node, "company"), text(node, "position"), text(node, "period"),
+                                    text(node, "description"), portfolio())));
+                    case "educations" -> readArray(parser, field, node -> persist("educations",
+                            new Education(text(node, "institution"), text(node, "course"), text(node, "period"),
+                                    text(node, "description"), portfolio())));
+                    case "certifications" -> readArray(parser, field, node -> persist("certifications",
+                            new Certification(text(node, "name"), text(node, "issuer"),
+                                    text(node, "acquisition_date"), portfolio())));
+                    case "projects" -> readProjects(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (portfolioId == null) {
+                throw new IllegalArgumentException("portfolio 항목이 없습니다.");
+            }
+        }
+
+        private void readPortfolio(JsonNode node) {
+            if (portfolioId != null) {
+                throw new IllegalArgumentException("portfolio 항목이 두 번 이상 있습니다.");
+            }
+            String profileImageUrl = imageUrl(node, "profile_image_url");
+            if (targetId != null) {
+                PortfolioData portfolio = entityManager.find(PortfolioData.class, targetId);
+                portfolio.setName(text(node, "name"));
+                portfolio.setJobTitle(text(node, "job_title"));
+                portfolio.setPhilosophy(text(node, "philosophy"));
+                portfolio.setBirth(text(node, "birth"));
+                portfolio.setAddress(text(node, "address"));
+                portfolio.setEmail(text(node, "email"));
+                portfolio.setPhone(text(node, "phone"));
+                portfolio.setGithubUrl(text(node, "github_url"));
+                portfolio.setProfileImageUrl(profileImageUrl);
+                portfolioId = targetId;
+            } else {
+                PortfolioData portfolio = new PortfolioData(text(node, "name"), text(node, "job_title"),
+                        text(node, "philosophy"), text(node, "birth"), text(node, "address"), text(node, "email"),
+                        text(node, "phone"), text(node, "github_url"));
+                portfolio.setProfileImageUrl(profileImageUrl);
+                entityManager.persist(portfolio);
+                portfolioId = portfolio.getId();
+            }
+            counts.merge("portfolio", 1, Integer::sum);
+            pending++;
+        }
+
+        private void readProjects(JsonParser parser) throws IOException {
+            expectArray(parser, "projects");
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Map<String, String> fields = new HashMap<>();
+                Long projectId = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if ("details".equals(field)) {
+                        projectId = persistProject(fields);
+                        Long ownerId = projectId;
+                        readArray(parser, field, node -> persist("details",
+                                new ProjectDetail(imageUrl(node, "image_url"), text(node, "description"),
+                                        entityManager.getReference(Project.class, ownerId))));
+                    } else if (value.isStructStart()) {
+                        parser.skipChildren();
+                    } else if (projectId != null) {
+                        throw new IllegalArgumentException("details는 프로젝트의 마지막 필드여야 합니다.");
+                    } else {
+                        fields.put(field, parser.getValueAsString());
+                    }
+                }
+                if (projectId == null) {
+                    persistProject(fields);
+                }
+            }
+        }
+
+        private Long persistProject(Map<String, String> fields) {
+            Project project = new Project(fields.get("name"), fields.get("period"), fields.get("description"),
+                    fields.get("tech_stack"), fields.get("project_url"), fields.get("team_info"), portfolio());
+            project.setThumbnailUrl(validateImageUrl(fields.get("thumbnail_url")));
+            persist("projects", project);
+            return project.getId();
+        }
+
+        /**
+         * 배열의 각 객체를 하나씩 트리로 읽어 처리 (배열 전체는 메모리에 올리지 않음)
+         */
+        private void readArray(JsonParser parser, String field, NodeHandler handler) throws IOException {
+            expectArray(parser, field);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                handler.handle(objectMapper.readTree(parser));
+            }
+        }
+
+        private void expectArray(JsonParser parser, String field) {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(field + " 항목은 배열이어야 합니다.");
+            }
+        }
+
+        /**
+         * 저장 후 배치 크기마다 flush/clear (JDBC 배치로 전송, 영속성 컨텍스트 크기 일정)
+         * - ID는 시퀀스로 persist 시점에 정해지므로 clear 후에도 참조(getReference)로 연결할 수 있습니다.
+         */
+        private void persist(String type, Object entity) {
+            entityManager.persist(entity);
+            counts.merge(type, 1, Integer::sum);
+            if (++pending % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        private PortfolioData portfolio() {
+            if (portfolioId == null) {
+                throw new IllegalArgumentException("portfolio 항목이 컬렉션보다 먼저 와야 합니다.");
+            }
+            return entityManager.getReference(PortfolioData.class, portfolioId);
+        }
+
+        private String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+
+        private String imageUrl(JsonNode node, String field) {
+            return validateImageUrl(text(node, field));
+        }
+
+        /**
+         * 이미지 URL 검증 (/images/ 경로는 저장소에 파일이 있어야 함, 외부 URL은 http(s)만)
+         * - 기본 프로필 이미지는 배포 파일이므로 저장소 확인 없이 허용합니다.
+         */
+        private String validateImageUrl(String url) {
+            if (url == null || url.isBlank() || PortfolioData.DEFAULT_PROFILE_IMAGE_URL.equals(url)) {
+                return url;
+            }
+            if (url.startsWith("/images/")) {
+                if (!fileStorageService.fileExists(url)) {
+                    throw new IllegalArgumentException("저장소에 없는 이미지입니다: " + url);
+                }
+                return url;
+            }
+            if (url.startsWith("https://") || url.startsWith("http://")) {
+                return url;
+            }
+            throw new IllegalArgumentException("지원하지 않는 이미지 URL입니다: " + url);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NodeHandler {
+        void handle(JsonNode node);
+    }
+
+    private Map<String, Object> transferResult(Long portfolioId, Map<String, Integer> counts, long startedNanos) {
+        long rows = counts.values().stream().mapToLong(Integer::longValue).sum();
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedNanos) / 1_000_000);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("portfolioId", portfolioId);
+        result.put("rows", rows);
+        result.put("counts", counts);
+        result.put("elapsedMs", elapsedMs);
+        result.put("rowsPerSecond", Math.round(rows * 1000.0 / elapsedMs));
+        return result;
+    }
+}
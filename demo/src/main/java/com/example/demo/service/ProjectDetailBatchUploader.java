@@ -0,0 +1,162 @@
+// src/main/java/com/example/demo/service/ProjectDetailBatchUploader.java
+package com.example.demo.service;
+
+import com.example.demo.domain.ProjectDetail;
+import com.example.demo.dto.ProjectDetailUploadResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로젝트 상세 이미지 일괄 업로드
+ * - 파일 검증/저장은 전용 스레드 풀에서 병렬로 처리합니다.
+ * - 저장에 성공한 파일의 ProjectDetail은 한 트랜잭션에서 함께 저장합니다.
+ * - 일부 파일이 실패해도 나머지는 저장되며, 파일별 결과를 반환합니다.
+ * - 파일마다 썸네일 작업이 하나씩 생기므로, 썸네일 대기열에 자리가 날 때까지 기다렸다가 저장합니다.
+ * - 최대 파일 수는 multipart 한도(요청 크기 / 파일 크기)를 넘지 않도록 맞춥니다.
+ */
+@Slf4j
+@Service
+public class ProjectDetailBatchUploader {
+
+    private final PortfolioService portfolioService;
+    private final FileStorageService fileStorageService;
+    private final FileDeletionQueue fileDeletionQueue;
+    private final ThumbnailService thumbnailService;
+    private final ExecutorService executor;
+    private final int maxFiles;
+    private final long thumbnailWaitMillis;
+
+    public ProjectDetailBatchUploader(
+            PortfolioService portfolioService,
+            FileStorageService fileStorageService,
+            FileDeletionQueue fileDeletionQueue,
+            ThumbnailService thumbnailService,
+            @Value("${app.file.batch.parallelism:0}") int parallelism,
+            @Value("${app.file.batch.max-files:5}") int maxFiles,
+            @Value("${app.file.batch.thumbnail-wait-ms:30000}") long thumbnailWaitMillis,
+            @Value("${spring.servlet.multipart.max-file-size:1MB}") DataSize maxFileSize,
+            @Value("${spring.servlet.multipart.max-request-size:10MB}") DataSize maxRequestSize) {
+        this.portfolioService = portfolioService;
+        this.fileStorageService = fileStorageService;
+        this.fileDeletionQueue = fileDeletionQueue;
+        this.thumbnailService = thumbnailService;
+        this.thumbnailWaitMillis = thumbnailWaitMillis;
+
+        // 최대 크기 파일로 채웠을 때 요청 한도 안에 들어오는 수까지만 허용
+        long fitting = Math.max(1, maxRequestSize.toBytes() / Math.max(1, maxFileSize.toBytes()));
+        if (maxFiles > fitting) {
+            log.warn("app.file.batch.max-files({})가 multipart 한도({} / {})로 받을 수 있는 파일 수를 넘어 {}개로 제한합니다.",
+                    maxFiles, maxRequestSize, maxFileSize, fitting);
+        }
+        this.maxFiles = (int) Math.min(maxFiles, fitting);
+
+        int threads = parallelism > 0 ? parallelism : Math.min(4, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "batch-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * 여러 이미지를 병렬로 저장하고 상세 정보를 한 번에 추가
+     * - descriptions는 files와 같은 순서이며, 부족하면 빈 설명으로 저장합니다.
+     */
+    public List<ProjectDetailUploadResult> upload(Long projectId, List<MultipartFile> files, List<String> descriptions) {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        if (files.size() > maxFiles) {
+            throw new IllegalArgumentException("한 번에 업로드할 수 있는 파일은 최대 " + maxFiles + "개입니다.");
+        }
+
+        // 1. 파일 검증/저장 병렬 처리 (실패한 파일은 null)
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> store(file), executor))
+                .toList();
+
+        List<ProjectDetailUploadResult> results = new ArrayList<>(files.size());
+        List<Integer> storedIndexes = new ArrayList<>();
+        List<String> imageUrls = new ArrayList<>();
+        List<String> storedDescriptions = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            String fileName = files.get(i).getOriginalFilename();
+            try {
+                String imageUrl = futures.get(i).join();
+                storedIndexes.add(i);
+                imageUrls.add(imageUrl);
+                storedDescriptions.add(descriptionAt(descriptions, i));
+                results.add(null); // 저장 후 채움
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("일괄 업로드 중 파일 저장 실패: {} - {}", fileName, cause.getMessage());
+                results.add(ProjectDetailUploadResult.failed(i, fileName, cause.getMessage()));
+            }
+        }
+
+        if (imageUrls.isEmpty()) {
+            return results;
+        }
+
+        // 2. 저장된 파일의 상세 정보를 한 트랜잭션에서 저장
+        List<ProjectDetail> details;
+        try {
+            details = portfolioService.addProjectDetails(projectId, imageUrls, storedDescriptions);
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되었으므로 이번에 저장한 파일 정리 (참조되지 않는 경우에만 삭제됨)
+            imageUrls.stream().distinct().forEach(fileDeletionQueue::release);
+            throw e;
+        }
+
+        for (int i = 0; i < storedIndexes.size(); i++) {
+            int index = storedIndexes.get(i);
+            ProjectDetail detail = details.get(i);
+            results.set(index, ProjectDetailUploadResult.stored(index, files.get(index).getOriginalFilename(),
+                    detail.getImageUrl(), detail.getId()));
+        }
+        log.info("프로젝트 상세 이미지 일괄 업로드 완료: projectId={}, 성공 {}건 / 전체 {}건",
+                projectId, details.size(), files.size());
+        return results;
+    }
+
+    /**
+     * 썸네일 대기열에 자리가 나면 저장 (기다려도 자리가 없으면 그대로 저장하고 썸네일은 재시도 목록으로)
+     */
+    private String store(MultipartFile file) {
+        try {
+            if (!thumbnailService.awaitCapacity(thumbnailWaitMillis)) {
+                log.debug("썸네일 대기열에 자리가 나지 않아 그대로 저장합니다: {}", file.getOriginalFilename());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 업로드가 중단되었습니다.", e);
+        }
+        return fileStorageService.storeFile(file);
+    }
+
+    private String descriptionAt(List<String> descriptions, int index) {
+        if (descriptions == null || index >= descriptions.size() || descriptions.get(index) == null) {
+            return "";
+        }
+        return descriptions.get(index);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,398 @@
+// src/main/java/com/example/demo/service/ResizedImageService.java
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 요청 시점 이미지 리사이즈 서비스 (/images/r/{width}x{height}/{file})
+ * - 허용된 크기만 처리하며, 첫 요청 때 원본에서 한 번 생성합니다.
+ * - 결과는 용량 제한이 있는 디스크 캐시(LRU)와 작은 메모리 캐시(LRU) 두 단계로 보관합니다.
+ * - 같은 변형에 대한 동시 요청은 하나의 생성 작업을 함께 기다립니다.
+ * - 캐시 키에 인코더 설정 지문을 넣어, 설정이 바뀌면 이전 결과 대신 새로 생성합니다.
+ *   (지문별 디렉토리 resized/<지문>/ 중 현재 지문이 아닌 것은 시작 시 삭제)
+ */
+@Slf4j
+@Service
+public class ResizedImageService {
+
+    /**
+     * 리사이즈된 이미지 (메모리 캐시 항목)
+     */
+    public record ResizedImage(byte[] content, String contentType) {
+    }
+
+    private final FileStorageService fileStorageService;
+    private final ImageResampler imageResampler;
+    private final ImageDecoder imageDecoder;
+    private final ImageEncoder imageEncoder;
+    private final Set<String> allowedSizes;
+    private final Path cacheLocation;
+    private final long diskCacheMaxBytes;
+    private final long memoryCacheMaxBytes;
+    private final String renderVersion;
+
+    // 디스크 캐시 인덱스 (접근 순서, 값 = 파일 크기)
+    private final LinkedHashMap<String, Long> diskIndex = new LinkedHashMap<>(64, 0.75f, true);
+    private long diskBytes;
+
+    // 메모리 캐시 (접근 순서)
+    private final LinkedHashMap<String, ResizedImage> memoryCache = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes;
+
+    // 생성 중인 변형 (동시 요청 병합)
+    private final ConcurrentMap<String, CompletableFuture<ResizedImage>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong renders = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResizedImageService(
+            FileStorageService fileStorageService,
+            ImageResampler imageResampler,
+            ImageDecoder imageDecoder,
+            ImageEncoder imageEncoder,
+            @Value("${app.file.upload-dir:src/main/resources/static/images}") String uploadDir,
+            @Value("${app.file.resize.allowed-sizes:200x200,800x600,1600x1200}") String[] allowedSizes,
+            @Value("${app.file.resize.disk-cache-max-bytes:268435456}") long diskCacheMaxBytes,
+            @Value("${app.file.resize.memory-cache-max-bytes:16777216}") long memoryCacheMaxBytes) {
+        this.fileStorageService = fileStorageService;
+        this.imageResampler = imageResampler;
+        this.imageDecoder = imageDecoder;
+        this.imageEncoder = imageEncoder;
+        this.allowedSizes = Set.of(allowedSizes);
+        this.cacheLocation = Paths.get(uploadDir, "resized").toAbsolutePath().normalize();
+        this.diskCacheMaxBytes = diskCacheMaxBytes;
+        this.memoryCacheMaxBytes = memoryCacheMaxBytes;
+        this.renderVersion = imageEncoder.getSettingsFingerprint();
+
+        try {
+            Files.createDirectories(this.cacheLocation);
+            purgeStaleVersions();
+            loadDiskIndex();
+        } catch (IOException ex) {
+            throw new RuntimeException("리사이즈 캐시 디렉토리를 초기화할 수 없습니다.", ex);
+        }
+    }
+
+    /**
+     * 현재 리사이즈 결과의 버전 (인코더 설정 지문, URL의 v 파라미터와 ETag에 사용)
+     */
+    public String getRenderVersion() {
+        return renderVersion;
+    }
+
+    /**
+     * 요청한 크기로 변형할 수 있는 원본이 있는지 확인 (허용되지 않은 크기/파일명은 예외)
+     */
+    public boolean isAvailable(String fileName, int width, int height) {
+        validateSize(width, height);
+        return Files.exists(fileStorageService.resolveStoredImage(fileName));
+    }
+
+    /**
+     * 리사이즈된 이미지 조회 (메모리 → 디스크 → 생성 순)
+     * - 원본이 없으면 null을 반환합니다.
+     */
+    public ResizedImage getResized(String fileName, int width, int height) throws IOException {
+        validateSize(width, height);
+        Path original = fileStorageService.resolveStoredImage(fileName);
+        if (!Files.exists(original)) {
+            return null;
+        }
+
+        String key = cacheKey(width + "x" + height, fileName);
+        ResizedImage cached = getFromMemory(key);
+        if (cached != null) {
+            memoryHits.incrementAndGet();
+            return cached;
+        }
+
+        // 이미 다른 요청이 생성 중이면 그 결과를 기다림
+        CompletableFuture<ResizedImage> own = new CompletableFuture<>();
+        CompletableFuture<ResizedImage> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            return await(running);
+        }
+
+        try {
+            ResizedImage image = loadOrRender(key, original, width, height);
+            own.complete(image);
+            return image;
+        } catch (IOException | RuntimeException e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * 원본 하나의 모든 크기 변형을 캐시에서 제거 (다음 요청 때 현재 설정으로 다시 생성)
+     */
+    public void evict(String fileName) throws IOException {
+        for (String size : allowedSizes) {
+            String key = cacheKey(size, fileName);
+            synchronized (memoryCache) {
+                ResizedImage removed = memoryCache.remove(key);
+                if (removed != null) {
+                    memoryBytes -= removed.content().length;
+                }
+            }
+            synchronized (diskIndex) {
+                Long removed = diskIndex.remove(key);
+                if (removed != null) {
+                    diskBytes -= removed;
+                }
+            }
+            Files.deleteIfExists(cacheLocation.resolve(key));
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("allowedSizes", new TreeSet<>(allowedSizes));
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("diskHits", diskHits.get());
+        stats.put("renders", renders.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("evictions", evictions.get());
+        synchronized (memoryCache) {
+            stats.put("memoryEntries", memoryCache.size());
+            stats.put("memoryBytes", memoryBytes);
+        }
+        synchronized (diskIndex) {
+            stats.put("diskEntries", diskIndex.size());
+            stats.put("diskBytes", diskBytes);
+        }
+        return stats;
+    }
+
+    private ResizedImage loadOrRender(String key, Path original, int width, int height) throws IOException {
+        // 앞선 요청이 방금 끝났을 수 있으므로 한 번 더 확인
+        ResizedImage cached = getFromMemory(key);
+        if (cached != null) {
+            memoryHits.incrementAndGet();
+            return cached;
+        }
+
+        String contentType = getContentType(original);
+        Path cacheFile = cacheLocation.resolve(key);
+        byte[] stored = touchDiskEntry(key) ? readFromDisk(key, cacheFile) : null;
+        ResizedImage image;
+        if (stored != null) {
+            diskHits.incrementAndGet();
+            image = new ResizedImage(stored, contentType);
+        } else {
+            image = new ResizedImage(render(original, width, height), contentType);
+            writeToDisk(key, cacheFile, image.content());
+        }
+
+        putInMemory(key, image);
+        return image;
+    }
+
+    private byte[] render(Path original, int width, int height) throws IOException {
+        BufferedImage source = imageDecoder.decodeForBox(original, width, height);
+        BufferedImage resized = imageResampler.resize(source, width, height);
+        byte[] content = imageEncoder.encode(resized, FileStorageService.getOutputFormat(original.getFileName().toString()));
+        renders.incrementAndGet();
+        log.debug("이미지 리사이즈 생성: {} -> {}x{} ({} bytes)", original.getFileName(), width, height, content.length);
+        return content;
+    }
+
+    // --- 디스크 캐시 ---
+
+    /**
+     * 현재 지문이 아닌 이전 설정의 캐시 디렉토리 삭제
+     * - 다시 요청될 일이 없는 항목이 디스크 용량을 차지하지 않도록 합니다.
+     */
+    private void purgeStaleVersions() throws IOException {
+        List<Path> stale;
+        try (Stream<Path> entries = Files.list(cacheLocation)) {
+            stale = entries.filter(path -> !path.getFileName().toString().equals(renderVersion)).toList();
+        }
+        if (stale.isEmpty()) {
+            return;
+        }
+        for (Path version : stale) {
+            // 하위 항목부터 삭제
+            try (Stream<Path> files = Files.walk(version)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        log.info("이전 설정의 리사이즈 캐시 삭제: {} (현재 {})",
+                stale.stream().map(path -> path.getFileName().toString()).toList(), renderVersion);
+    }
+
+    private void loadDiskIndex() throws IOException {
+        // 마지막 수정 시각 순으로 등록하여 재시작 후에도 대략적인 LRU 순서를 유지
+        try (Stream<Path> files = Files.walk(cacheLocation)) {
+            files.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(".part"))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .forEach(path -> {
+                        long size = path.toFile().length();
+                        diskIndex.put(cacheLocation.relativize(path).toString().replace('\\', '/'), size);
+                        diskBytes += size;
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("리사이즈 디스크 캐시 로드: {}개, {} bytes", diskIndex.size(), diskBytes);
+    }
+
+    private long lastModified(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean touchDiskEntry(String key) {
+        synchronized (diskIndex) {
+            return diskIndex.get(key) != null;
+        }
+    }
+
+    /**
+     * 디스크 캐시 파일 읽기 (확인한 뒤 다른 요청의 LRU 제거로 지워졌으면 null - 캐시 미스로 처리)
+     */
+    private byte[] readFromDisk(String key, Path cacheFile) throws IOException {
+        try {
+            return Files.readAllBytes(cacheFile);
+        } catch (NoSuchFileException e) {
+            synchronized (diskIndex) {
+                Long removed = diskIndex.remove(key);
+                if (removed != null) {
+                    diskBytes -= removed;
+                }
+            }
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, Path cacheFile, byte[] content) throws IOException {
+        Files.createDirectories(cacheFile.getParent());
+        Path tempFile = Files.createTempFile(cacheFile.getParent(), "resize-", ".part");
+        try {
+            Files.write(tempFile, content);
+            try {
+                Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (diskIndex) {
+            Long previous = diskIndex.put(key, (long) content.length);
+            diskBytes += content.length - (previous != null ? previous : 0);
+
+            // 용량을 넘으면 가장 오래 쓰이지 않은 항목부터 제거 (방금 넣은 항목은 유지)
+            Iterator<Map.Entry<String, Long>> iterator = diskIndex.entrySet().iterator();
+            while (diskBytes > diskCacheMaxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                diskBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+
+        for (String evictedKey : evicted) {
+            evictions.incrementAndGet();
+            Files.deleteIfExists(cacheLocation.resolve(evictedKey));
+        }
+    }
+
+    // --- 메모리 캐시 ---
+
+    private ResizedImage getFromMemory(String key) {
+        synchronized (memoryCache) {
+            return memoryCache.get(key);
+        }
+    }
+
+    private void putInMemory(String key, ResizedImage image) {
+        long size = image.content().length;
+        // 큰 변형이 메모리 캐시를 독차지하지 않도록 전체 용량의 1/4 이하만 보관
+        if (size > memoryCacheMaxBytes / 4) {
+            return;
+        }
+        synchronized (memoryCache) {
+            ResizedImage previous = memoryCache.put(key, image);
+            memoryBytes += size - (previous != null ? previous.content().length : 0);
+
+            Iterator<Map.Entry<String, ResizedImage>> iterator = memoryCache.entrySet().iterator();
+            while (memoryBytes > memoryCacheMaxBytes && iterator.hasNext()) {
+                Map.Entry<String, ResizedImage> eldest = iterator.next();
+                memoryBytes -= eldest.getValue().content().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    // --- 유틸리티 ---
+
+    private String cacheKey(String size, String fileName) {
+        return renderVersion + "/" + size + "/" + fileName;
+    }
+
+    private void validateSize(int width, int height) {
+        String size = width + "x" + height;
+        if (!allowedSizes.contains(size)) {
+            throw new IllegalArgumentException("허용되지 않은 이미지 크기입니다: " + size);
+        }
+    }
+
+    private String getContentType(Path original) {
+        return ImageEncoder.contentTypeOf(FileStorageService.getOutputFormat(original.getFileName().toString()));
+    }
+
+    private ResizedImage await(CompletableFuture<ResizedImage> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
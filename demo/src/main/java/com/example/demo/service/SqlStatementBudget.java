@@ -0,0 +1,104 @@
+// src/main/java/com/example/demo/service/SqlStatementBudget.java
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 요청/서비스 메서드별 SQL 문장 수 집계와 예산 초과 감지
+ * - 예산을 넘은 구간은 overBudget으로 집계하고, 로그가 켜져 있으면(개발 환경) 경고를 남깁니다.
+ * - N+1 회귀(지연 로딩 컬렉션, EAGER 연관)는 보통 이 수치가 데이터 크기에 비례해 늘어나는 것으로 드러납니다.
+ */
+@Slf4j
+@Component
+public class SqlStatementBudget {
+
+    private final long requestBudget;
+    private final long serviceMethodBudget;
+    private final boolean logEnabled;
+
+    private final ConcurrentMap<String, ScopeStats> requests = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ScopeStats> serviceMethods = new ConcurrentHashMap<>();
+
+    public SqlStatementBudget(@Value("${app.sql.budget.request:30}") long requestBudget,
+                              @Value("${app.sql.budget.service-method:15}") long serviceMethodBudget,
+                              @Value("${app.sql.budget.log-enabled:false}") boolean logEnabled) {
+        this.requestBudget = requestBudget;
+        this.serviceMethodBudget = serviceMethodBudget;
+        this.logEnabled = logEnabled;
+    }
+
+    /**
+     * 요청 하나의 문장 수 기록 (키: HTTP 메서드 + 핸들러 URL 패턴)
+     */
+    public void recordRequest(String request, long statements) {
+        record(requests, "요청", request, statements, requestBudget);
+    }
+
+    /**
+     * PortfolioService 메서드 호출 한 번의 문장 수 기록
+     */
+    public void recordServiceMethod(String method, long statements) {
+        record(serviceMethods, "서비스 메서드", method, statements, serviceMethodBudget);
+    }
+
+    private void record(ConcurrentMap<String, ScopeStats> target, String kind, String scope,
+                        long statements, long budget) {
+        ScopeStats stats = target.computeIfAbsent(scope, key -> new ScopeStats());
+        stats.calls.incrementAndGet();
+        stats.statements.addAndGet(statements);
+        stats.max.accumulate(statements);
+        if (statements > budget) {
+            stats.overBudget.incrementAndGet();
+            if (logEnabled) {
+                log.warn("SQL 예산 초과 ({}): {} - {}개 문장 (예산 {}개)", kind, scope, statements, budget);
+            }
+        }
+    }
+
+    /**
+     * 집계 조회 (구간별 호출 수, 누적/최대 문장 수, 예산 초과 횟수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("requestBudget", requestBudget);
+        stats.put("serviceMethodBudget", serviceMethodBudget);
+        stats.put("requests", snapshot(requests));
+        stats.put("serviceMethods", snapshot(serviceMethods));
+        return stats;
+    }
+
+    public void reset() {
+        requests.clear();
+        serviceMethods.clear();
+    }
+
+    private Map<String, Object> snapshot(Map<String, ScopeStats> source) {
+        Map<String, Object> result = new TreeMap<>();
+        source.forEach((scope, stats) -> {
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("calls", stats.calls.get());
+            entry.put("statements", stats.statements.get());
+            entry.put("max", stats.max.get());
+            entry.put("overBudget", stats.overBudget.get());
+            result.put(scope, entry);
+        });
+        return result;
+    }
+
+    private static final class ScopeStats {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong statements = new AtomicLong();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private final AtomicLong overBudget = new AtomicLong();
+    }
+}
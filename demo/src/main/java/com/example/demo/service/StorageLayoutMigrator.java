@@ -0,0 +1,118 @@
+// src/main/java/com/example/demo/service/StorageLayoutMigrator.java
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 평면 업로드 디렉토리 → 샤드 디렉토리 이동 (무중단)
+ * - 애플리케이션 시작 후 백그라운드 스레드에서 원본/썸네일 디렉토리 바로 아래의 업로드 파일을 샤드로 옮깁니다.
+ * - 같은 파일 시스템 안의 원자적 이동이므로 파일은 항상 두 위치 중 한 곳에 존재하며,
+ *   조회는 샤드 → 평면 순으로 찾기 때문에 이동 중에도 URL이 그대로 동작합니다.
+ * - 기본 이미지 등 업로드 형식이 아닌 파일은 옮기지 않습니다.
+ */
+@Slf4j
+@Component
+public class StorageLayoutMigrator {
+
+    private final FileStorageService fileStorageService;
+    private final boolean migrateOnStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong moved = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public StorageLayoutMigrator(FileStorageService fileStorageService,
+                                 @Value("${app.file.sharding.migrate-on-startup:true}") boolean migrateOnStartup) {
+        this.fileStorageService = fileStorageService;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (migrateOnStartup) {
+            startInBackground();
+        }
+    }
+
+    /**
+     * 백그라운드 이동 시작 (이미 실행 중이면 false)
+     */
+    public boolean startInBackground() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                migrate();
+            } finally {
+                running.set(false);
+            }
+        }, "storage-layout-migration");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 이동 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("running", running.get());
+        stats.put("moved", moved.get());
+        stats.put("duplicatesRemoved", duplicates.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+
+    private void migrate() {
+        long startedAt = System.nanoTime();
+        long before = moved.get();
+        for (Path root : fileStorageService.storageRoots()) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(root, Files::isRegularFile)) {
+                for (Path flat : files) {
+                    migrateFile(root, flat);
+                }
+            } catch (IOException e) {
+                log.error("업로드 디렉토리를 읽을 수 없습니다: {}", root, e);
+            }
+        }
+        long count = moved.get() - before;
+        if (count > 0) {
+            log.info("샤드 디렉토리로 {}개 파일 이동 완료 ({} ms)", count, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    private void migrateFile(Path root, Path flat) {
+        String fileName = flat.getFileName().toString();
+        if (!FileStorageService.isUploadedName(fileName)) {
+            return;
+        }
+        try {
+            switch (fileStorageService.relocate(root, fileName)) {
+                case MOVED -> moved.incrementAndGet();
+                case DUPLICATE_REMOVED -> duplicates.incrementAndGet();
+                case MISSING -> { } // 목록을 읽은 뒤 업로드 재사용/삭제로 이미 처리됨
+            }
+        } catch (IOException e) {
+            // 이동 중 삭제된 파일 등은 다음 실행에서 다시 확인
+            failed.incrementAndGet();
+            log.warn("샤드 디렉토리 이동 실패: {} - {}", flat, e.getMessage());
+        }
+    }
+}
\ No newline at end of file
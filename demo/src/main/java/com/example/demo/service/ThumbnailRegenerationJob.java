@@ -0,0 +1,252 @@
+// src/main/java/com/example/demo/service/ThumbnailRegenerationJob.java
+package com.example.demo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 썸네일 일괄 재생성 작업
+ * - PortfolioData, Project, ProjectDetail이 참조하는 모든 이미지의 변형을 현재 크기/인코더 설정으로 다시 만듭니다.
+ * - 미리 생성한 썸네일은 다시 쓰고, 요청 시점 리사이즈 캐시는 비워서 다음 요청 때 새로 생성되게 합니다.
+ * - 미리 생성하지 않는 모드에서는 할 일이 없습니다. (설정이 바뀐 리사이즈 캐시는 ResizedImageService가 시작 시 정리)
+ * - 처리한 URL을 체크포인트 파일에 바로 기록하므로, 중단되어도 다음 실행에서 남은 이미지부터 이어서 처리합니다.
+ * - 체크포인트 첫 줄에 설정 지문(인코더 설정 + 썸네일 크기)을 남기며, 설정이 바뀌었으면 체크포인트를 버리고 처음부터 처리합니다.
+ * - 관리자 화면(/admin/thumbnails/regenerate)이나 명령행(--regenerate-thumbnails)에서 실행합니다.
+ */
+@Slf4j
+@Service
+public class ThumbnailRegenerationJob {
+
+    private static final String SETTINGS_HEADER = "# settings=";
+
+    private final ImageReferenceCounter imageReferenceCounter;
+    private final FileStorageService fileStorageService;
+    private final ResizedImageService resizedImageService;
+    private final int concurrency;
+    private final Path checkpointFile;
+    private final String settingsFingerprint;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Map<String, Object> lastResult = Map.of();
+
+    // 진행 상황 (실행 중 상태 조회용)
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicLong startedAt = new AtomicLong();
+
+    public ThumbnailRegenerationJob(
+            ImageReferenceCounter imageReferenceCounter,
+            FileStorageService fileStorageService,
+            ResizedImageService resizedImageService,
+            ImageEncoder imageEncoder,
+            @Value("${app.file.regeneration.concurrency:0}") int concurrency,
+            @Value("${app.file.upload-dir:src/main/resources/static/images}") String uploadDir) {
+        this.imageReferenceCounter = imageReferenceCounter;
+        this.fileStorageService = fileStorageService;
+        this.resizedImageService = resizedImageService;
+        this.concurrency = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        this.checkpointFile = Paths.get(uploadDir, ".tmp", "thumbnail-regeneration.checkpoint").toAbsolutePath().normalize();
+        this.settingsFingerprint = imageEncoder.getSettingsFingerprint() + "/" + Stream.of(FileStorageService.ThumbnailSize.values())
+                .map(size -> size.width + "x" + size.height)
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 백그라운드 실행 (이미 실행 중이면 false)
+     * - fresh가 true면 체크포인트를 버리고 처음부터 다시 처리합니다.
+     * - 실행 표시를 여기서 먼저 잡으므로, 동시에 호출되어도 한 번만 true를 반환합니다.
+     */
+    public boolean startInBackground(boolean fresh) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                execute(fresh);
+            } catch (RuntimeException e) {
+                log.error("썸네일 재생성 작업 실패", e);
+            }
+        }, "thumbnail-regeneration");
+        thread.setDaemon(true);
+        try {
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 재생성 실행 (호출 스레드에서 완료까지 대기)
+     * - 실패한 이미지가 없으면 체크포인트를 삭제하고, 있으면 남겨 두어 다음 실행에서 다시 시도합니다.
+     */
+    public Map<String, Object> run(boolean fresh) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("썸네일 재생성 작업이 이미 실행 중입니다.");
+        }
+        return execute(fresh);
+    }
+
+    // running을 잡은 상태에서 호출되며, 끝나면 해제
+    private Map<String, Object> execute(boolean fresh) {
+        try {
+            if (fresh) {
+                Files.deleteIfExists(checkpointFile);
+            }
+            Set<String> done = readCheckpoint();
+            List<String> pending = imageReferenceCounter.findReferencedImageUrls().stream()
+                    .filter(url -> url.startsWith("/images/"))
+                    .filter(url -> !done.contains(url))
+                    .toList();
+
+            total.set(pending.size());
+            processed.set(0);
+            failed.set(0);
+            startedAt.set(System.nanoTime());
+            log.info("썸네일 재생성 시작: 대상 {}개 (체크포인트로 건너뜀 {}개, 동시성 {})", pending.size(), done.size(), concurrency);
+
+            regenerateAll(pending);
+
+            if (failed.get() == 0) {
+                Files.deleteIfExists(checkpointFile);
+            }
+            Map<String, Object> result = getProgress();
+            result.put("resumedFrom", done.size());
+            lastResult = result;
+            log.info("썸네일 재생성 완료: {}개 처리, {}개 실패, {} images/s",
+                    processed.get(), failed.get(), result.get("imagesPerSecond"));
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException("썸네일 재생성 체크포인트를 처리할 수 없습니다.", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 진행 상태 (실행 중이면 현재 진행률, 아니면 마지막 결과)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("running", running.get());
+        status.put("concurrency", concurrency);
+        status.put("checkpointExists", Files.exists(checkpointFile));
+        status.put(running.get() ? "progress" : "lastResult", running.get() ? getProgress() : lastResult);
+        return status;
+    }
+
+    private void regenerateAll(List<String> pending) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-regeneration-worker");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        try (BufferedWriter checkpoint = Files.newBufferedWriter(checkpointFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (Files.size(checkpointFile) == 0) {
+                checkpoint.write(SETTINGS_HEADER + settingsFingerprint);
+                checkpoint.newLine();
+                checkpoint.flush();
+            }
+
+            List<Future<?>> futures = new ArrayList<>(pending.size());
+            for (String url : pending) {
+                futures.add(workers.submit(() -> regenerate(url, checkpoint)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("썸네일 재생성이 중단되었습니다.", e);
+                } catch (Exception e) {
+                    // 개별 실패는 regenerate에서 기록
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void regenerate(String url, BufferedWriter checkpoint) {
+        try {
+            if (!fileStorageService.regenerateThumbnails(url)) {
+                log.warn("원본 이미지가 없어 재생성을 건너뜁니다: {}", url);
+            }
+            if (fileStorageService.isEagerThumbnails()) {
+                resizedImageService.evict(url.substring("/images/".length()));
+            }
+
+            // 완료한 URL을 바로 기록 (중단 후 재개 시 건너뜀)
+            synchronized (checkpoint) {
+                checkpoint.write(url);
+                checkpoint.newLine();
+                checkpoint.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            log.error("썸네일 재생성 실패: {}", url, e);
+        } finally {
+            processed.incrementAndGet();
+        }
+    }
+
+    private Set<String> readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return Set.of();
+        }
+        List<String> lines = Files.readAllLines(checkpointFile, StandardCharsets.UTF_8);
+        String expectedHeader = SETTINGS_HEADER + settingsFingerprint;
+        if (lines.isEmpty() || !lines.get(0).trim().equals(expectedHeader)) {
+            // 다른 설정으로 만든 썸네일이므로 건너뛰면 안 됨
+            log.info("썸네일 설정이 바뀌어 재생성 체크포인트를 버립니다. ({} -> {})",
+                    lines.isEmpty() ? "(없음)" : lines.get(0).trim(), expectedHeader);
+            Files.delete(checkpointFile);
+            return Set.of();
+        }
+        Set<String> done = new HashSet<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (!line.isBlank()) {
+                done.add(line.trim());
+            }
+        }
+        return done;
+    }
+
+    private Map<String, Object> getProgress() {
+        double seconds = Math.max((System.nanoTime() - startedAt.get()) / 1_000_000_000.0, 0.001);
+        Map<String, Object> progress = new HashMap<>();
+        progress.put("total", total.get());
+        progress.put("processed", processed.get());
+        progress.put("failed", failed.get());
+        progress.put("elapsedSeconds", Math.round(seconds * 10) / 10.0);
+        progress.put("imagesPerSecond", Math.round(processed.get() / seconds * 10) / 10.0);
+        return progress;
+    }
+}
@@ -0,0 +1,348 @@
+// src/main/java/com/example/demo/service/ThumbnailService.java
+package com.example.demo.service;
+
+import com.example.demo.event.PortfolioChangedEvent;
+import com.example.demo.service.FileStorageService.ThumbnailSize;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 썸네일 비동기 생성 서비스
+ * - 요청 스레드 대신 전용 워커 풀에서 썸네일을 생성합니다.
+ * - 대기열 크기를 제한하여, 가득 차면 작업을 거절하고(backpressure) 그동안 원본 이미지를 그대로 사용합니다.
+ * - 거절된 작업은 경로만 보관해 두었다가 워커가 작업을 마쳐 자리가 나면 다시 등록합니다.
+ * - 끝난 작업은 상태를 남기지 않으며, 썸네일 사용 가능 여부는 디스크의 파일로 판단합니다. (FileStorageService)
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    /**
+     * 썸네일 작업 상태
+     */
+    public enum Status {
+        PENDING, RUNNING, REJECTED
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final ImageResampler imageResampler;
+    private final ImageDecoder imageDecoder;
+    private final ImageEncoder imageEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 대기/실행 중이거나 재시도를 기다리는 작업만 보관 (끝나면 성공/실패와 상관없이 제거)
+    private final ConcurrentMap<String, Status> jobs = new ConcurrentHashMap<>();
+    // 대기열이 가득 차 거절된 작업 (최대 retryCapacity개, 원본 바이트 없이 경로만 보관)
+    private final Deque<Job> deferred = new ConcurrentLinkedDeque<>();
+    private final int retryCapacity;
+    // 워커가 작업을 마칠 때마다 알림 (대기열 자리를 기다리는 일괄 업로드용)
+    private final Object capacityMonitor = new Object();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    // 크기별 인코딩 결과 누적 (같은 썸네일을 ImageIO 기본 설정으로 썼을 때 대비 절감 바이트 보고용)
+    // - 비교용 인코딩은 비용이 들므로 savingsSampleEvery개 작업 중 하나만 측정합니다. (0이면 측정 안 함)
+    private final ConcurrentMap<ThumbnailSize, AtomicLong> encodedBytes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ThumbnailSize, AtomicLong> defaultEncodedBytes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ThumbnailSize, AtomicLong> savingsSamples = new ConcurrentHashMap<>();
+    private final AtomicLong encodeJobs = new AtomicLong();
+    private final int savingsSampleEvery;
+
+    public ThumbnailService(
+            @Value("${app.file.thumbnail.workers:2}") int workers,
+            @Value("${app.file.thumbnail.queue-capacity:32}") int queueCapacity,
+            @Value("${app.file.thumbnail.retry-capacity:256}") int retryCapacity,
+            @Value("${app.file.thumbnail.savings-sample-every:10}") int savingsSampleEvery,
+            ImageResampler imageResampler,
+            ImageDecoder imageDecoder,
+            ImageEncoder imageEncoder,
+            ApplicationEventPublisher eventPublisher) {
+        this.imageResampler = imageResampler;
+        this.imageDecoder = imageDecoder;
+        this.imageEncoder = imageEncoder;
+        this.eventPublisher = eventPublisher;
+        this.retryCapacity = retryCapacity;
+        this.savingsSampleEvery = savingsSampleEvery;
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 썸네일 생성 작업 등록 (대기열이 가득 차면 거절 후 나중에 재시도)
+     * - content는 업로드 시 메모리에 읽어 둔 원본 바이트로, 쉬는 워커가 있어 바로 실행될 때만 사용합니다.
+     * - 대기열에 들어가는 작업은 stored(저장된 원본 경로)만 보관합니다. (대기 작업마다 최대 10MB를 잡아 두지 않도록)
+     */
+    public Status submit(String fileName, byte[] content, Path stored, Map<ThumbnailSize, Path> targets, String outputFormat) {
+        return submit(new Job(fileName, new Source(content, stored), targets, outputFormat));
+    }
+
+    /**
+     * 썸네일 생성 작업 등록 (저장된 파일에서 디코딩)
+     * - 분할 업로드처럼 원본을 메모리에 두지 않은 경우에 사용합니다.
+     */
+    public Status submit(String fileName, Path source, Map<ThumbnailSize, Path> targets, String outputFormat) {
+        return submit(new Job(fileName, new Source(null, source), targets, outputFormat));
+    }
+
+    private Status submit(Job job) {
+        // 같은 파일의 작업이 이미 대기 중이면 다시 등록하지 않음 (putIfAbsent로 선점해 동시에 두 번 등록되지 않게 함)
+        Status current = jobs.putIfAbsent(job.fileName(), Status.PENDING);
+        if (current != null) {
+            return current;
+        }
+        submitted.incrementAndGet();
+        if (job.source().content() != null && job.source().path() != null && !hasIdleWorker()) {
+            job = job.pathOnly();
+        }
+        if (tryExecute(job)) {
+            return Status.PENDING;
+        }
+        rejected.incrementAndGet();
+        return defer(job);
+    }
+
+    /**
+     * 워커에 작업 등록
+     * - 호출 전에 jobs 항목을 이 작업이 선점하고 있어야 하며, 거절되면 항목 정리는 호출한 쪽에서 합니다.
+     */
+    private boolean tryExecute(Job job) {
+        jobs.put(job.fileName(), Status.PENDING);
+        try {
+            executor.execute(() -> run(job));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 대기 중인 작업 없이 쉬는 워커가 있는지 (지금 등록하면 바로 실행됨)
+     */
+    private boolean hasIdleWorker() {
+        return executor.getQueue().isEmpty() && executor.getActiveCount() < executor.getMaximumPoolSize();
+    }
+
+    /**
+     * 거절된 작업을 재시도 목록에 보관 (목록도 가득 차면 버림 - 다음 업로드나 일괄 재생성에서 다시 생성)
+     */
+    private Status defer(Job job) {
+        if (job.source().path() == null || deferred.size() >= retryCapacity) {
+            // submit에서 선점한 항목 해제 (다른 작업의 항목은 건드리지 않음)
+            jobs.remove(job.fileName(), Status.PENDING);
+            log.warn("썸네일 작업 대기열이 가득 차 거절되었습니다. 원본 이미지를 사용합니다: {}", job.fileName());
+            return Status.REJECTED;
+        }
+        jobs.put(job.fileName(), Status.REJECTED);
+        deferred.offerLast(job.pathOnly());
+        log.warn("썸네일 작업 대기열이 가득 차 나중에 다시 시도합니다. 그동안 원본 이미지를 사용합니다: {}", job.fileName());
+        return Status.REJECTED;
+    }
+
+    /**
+     * 대기열에 자리가 난 만큼 거절된 작업 재등록
+     */
+    private void retryDeferred() {
+        Job job;
+        while (!executor.isShutdown() && executor.getQueue().remainingCapacity() > 0
+                && (job = deferred.pollFirst()) != null) {
+            if (!tryExecute(job)) {
+                jobs.put(job.fileName(), Status.REJECTED);
+                deferred.offerFirst(job);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기열에 새 작업을 받을 자리가 날 때까지 대기 (재시도를 기다리는 작업이 먼저 자리를 차지함)
+     * - 시간 안에 자리가 나지 않으면 false를 반환하며, 그 뒤 등록한 작업은 재시도 목록으로 갑니다.
+     */
+    public boolean awaitCapacity(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (capacityMonitor) {
+            while (executor.getQueue().remainingCapacity() == 0 || !deferred.isEmpty()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0 || executor.isShutdown()) {
+                    return false;
+                }
+                capacityMonitor.wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 썸네일 즉시 생성 (호출 스레드에서 실행, 일괄 재생성용)
+     * - 워커 대기열을 거치지 않으므로 업로드 작업과 별개로 동시성을 조절할 수 있습니다.
+     */
+    public void generateNow(String fileName, Path source, Map<ThumbnailSize, Path> targets, String outputFormat) throws IOException {
+        generateThumbnails(new Source(null, source), fileName, targets, outputFormat);
+    }
+
+    /**
+     * 썸네일 작업이 대기/실행 중이거나 재시도를 기다리는지 여부
+     * - 이 동안에는 이전 썸네일 파일이 남아 있더라도 원본 이미지를 사용합니다.
+     */
+    public boolean isInProgress(String fileName) {
+        return jobs.containsKey(fileName);
+    }
+
+    /**
+     * 작업 상태 조회 (추적 중인 작업이 없으면 null)
+     */
+    public Status getStatus(String fileName) {
+        return jobs.get(fileName);
+    }
+
+    /**
+     * 작업 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("submitted", submitted.get());
+        stats.put("completed", completed.get());
+        stats.put("failed", failed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("queueDepth", executor.getQueue().size());
+        stats.put("activeWorkers", executor.getActiveCount());
+        stats.put("deferred", deferred.size());
+        stats.put("jobs", Collections.unmodifiableMap(new HashMap<>(jobs)));
+        stats.put("decoder", imageDecoder.getStats());
+
+        Map<String, Object> bytesSaved = new HashMap<>();
+        encodedBytes.forEach((size, encoded) -> {
+            long defaultEncoded = defaultEncodedBytes.get(size).get();
+            bytesSaved.put(size.name().toLowerCase(), Map.of(
+                    "samples", savingsSamples.get(size).get(),
+                    "defaultEncoderBytes", defaultEncoded,
+                    "encodedBytes", encoded.get(),
+                    "savedBytes", defaultEncoded - encoded.get()));
+        });
+        stats.put("bytesSaved", bytesSaved);
+        return stats;
+    }
+
+    private void run(Job job) {
+        jobs.put(job.fileName(), Status.RUNNING);
+        boolean generated = false;
+        try {
+            generateThumbnails(job.source(), job.fileName(), job.targets(), job.outputFormat());
+            completed.incrementAndGet();
+            generated = true;
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("썸네일 생성 실패: {}", job.fileName(), e);
+        } finally {
+            jobs.remove(job.fileName());
+            retryDeferred();
+            synchronized (capacityMonitor) {
+                capacityMonitor.notifyAll();
+            }
+        }
+        // 원본 대신 썸네일 srcset을 쓰도록 캐시된 화면 갱신 (작업 상태를 정리한 뒤 발행)
+        if (generated) {
+            eventPublisher.publishEvent(new PortfolioChangedEvent("thumbnailsCompleted"));
+        }
+    }
+
+    /**
+     * 썸네일 생성
+     */
+    private void generateThumbnails(Source source, String fileName,
+                                    Map<ThumbnailSize, Path> targets, String outputFormat) throws IOException {
+        // 가장 큰 썸네일에 필요한 만큼만 축소 디코딩 (원본 전체 해상도를 힙에 올리지 않음)
+        int boxWidth = targets.keySet().stream().mapToInt(size -> size.width).max().orElseThrow();
+        int boxHeight = targets.keySet().stream().mapToInt(size -> size.height).max().orElseThrow();
+        BufferedImage originalImage = source.content() != null
+                ? imageDecoder.decodeForBox(source.content(), boxWidth, boxHeight)
+                : imageDecoder.decodeForBox(source.path(), boxWidth, boxHeight);
+        boolean sampleSavings = savingsSampleEvery > 0 && encodeJobs.getAndIncrement() % savingsSampleEvery == 0;
+
+        // 큰 크기부터 단계적으로 축소하고, 완성된 크기는 병렬로 저장
+        imageResampler.renderCascade(originalImage, targets.keySet(), (size, thumbnail) -> {
+            try {
+                byte[] encoded = imageEncoder.encode(thumbnail, outputFormat);
+                writeAtomically(targets.get(size), encoded);
+                if (sampleSavings) {
+                    int defaultEncoded = imageEncoder.encodedSizeWithDefaults(thumbnail, outputFormat);
+                    recordBytesSaved(size, defaultEncoded, encoded.length);
+                    log.debug("썸네일 인코딩: {} [{}] 기본 설정 {} -> {} bytes", fileName, size, defaultEncoded, encoded.length);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("썸네일 생성 완료: {}", fileName);
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체 (재생성 중에도 제공 중인 썸네일이 깨져 보이지 않도록)
+     */
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tempFile = target.resolveSibling(target.getFileName() + ".part");
+        Files.write(tempFile, content);
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void recordBytesSaved(ThumbnailSize size, long defaultEncoded, long encoded) {
+        // 조회 시 encodedBytes를 기준으로 순회하므로 나머지 항목을 먼저 만듦
+        savingsSamples.computeIfAbsent(size, key -> new AtomicLong()).incrementAndGet();
+        defaultEncodedBytes.computeIfAbsent(size, key -> new AtomicLong()).addAndGet(defaultEncoded);
+        encodedBytes.computeIfAbsent(size, key -> new AtomicLong()).addAndGet(encoded);
+    }
+
+    /**
+     * 썸네일 원본 (메모리의 업로드 바이트 또는 저장된 파일 중 하나)
+     */
+    private record Source(byte[] content, Path path) {
+    }
+
+    /**
+     * 썸네일 작업 (파일명, 원본, 크기별 저장 경로, 출력 형식)
+     */
+    private record Job(String fileName, Source source, Map<ThumbnailSize, Path> targets, String outputFormat) {
+
+        // 원본 바이트를 버리고 저장된 파일에서 디코딩하는 작업
+        Job pathOnly() {
+            return new Job(fileName, new Source(null, source.path()), targets, outputFormat);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -3,16 +3,27 @@ package com.example.demo.util;
 
 import com.example.demo.domain.*;
 import com.example.demo.repository.PortfolioDataRepository;
+import com.example.demo.service.PortfolioTransferService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
 @Component
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
     private final PortfolioDataRepository portfolioDataRepository;
+    private final PortfolioTransferService portfolioTransferService;
+
+    // 내보내기 JSON으로 초기 데이터를 채울 때 사용 (비어 있으면 아래 샘플 데이터)
+    @Value("${app.portfolio.seed-file:}")
+    private String seedFile;
 
     @Override
     @Transactional
@@ -21,6 +32,37 @@ public class DataInitializer implements CommandLineRunner {
             return;
         }
 
+        if (!seedFile.isBlank()) {
+            try (InputStream in = Files.newInputStream(Paths.get(seedFile))) {
+                System.out.println("=== 초기 데이터 가져오기 완료: " + portfolioTransferService.importPortfolio(null, in) + " ===");
+            }
+            return;
+        }
+
+        // --- 1~6. 샘플 포트폴리오 구성 ---
+        PortfolioData portfolio = createSamplePortfolio();
+
+        // --- 7. Repository를 통해 모든 데이터 저장 (풀링 시퀀스 ID라 INSERT가 배치로 묶임) ---
+        portfolioDataRepository.save(portfolio);
+        
+        System.out.println("=== 초기 데이터 생성 완료 ===");
+        System.out.println("포트폴리오 기본 정보: " + portfolio.getName());
+        System.out.println("기술 스택: " + portfolio.getSkills().size() + "개");
+        System.out.println("경력: " + portfolio.getCareers().size() + "개");
+        System.out.println("학력: " + portfolio.getEducations().size() + "개");
+        System.out.println("자격증: " + portfolio.getCertifications().size() + "개");
+        System.out.println("프로젝트: " + portfolio.getProjects().size() + "개");
+        
+        // 각 프로젝트별 상세 정보 개수 출력
+        portfolio.getProjects().forEach(project -> {
+            System.out.println("- " + project.getName() + ": " + project.getDetails().size() + "개 상세 정보");
+        });
+    }
+
+    /**
+     * 샘플 포트폴리오 데이터 구성 (저장하지 않음, 쓰기 벤치마크에서도 사용)
+     */
+    public PortfolioData createSamplePortfolio() {
         // --- 1. 포트폴리오 메인 데이터 생성 ---
         PortfolioData portfolio = new PortfolioData(
             "송준회", "백엔드 개발자",
@@ -237,20 +279,6 @@ public class DataInitializer implements CommandLineRunner {
         
         portfolio.getProjects().add(blogPlatform);
 
-        // --- 7. Repository를 통해 모든 데이터 저장 ---
-        portfolioDataRepository.save(portfolio);
-        
-        System.out.println("=== 초기 데이터 생성 완료 ===");
-        System.out.println("포트폴리오 기본 정보: " + portfolio.getName());
-        System.out.println("기술 스택: " + portfolio.getSkills().size() + "개");
-        System.out.println("경력: " + portfolio.getCareers().size() + "개");
-        System.out.println("학력: " + portfolio.getEducations().size() + "개");
-        System.out.println("자격증: " + portfolio.getCertifications().size() + "개");
-        System.out.println("프로젝트: " + portfolio.getProjects().size() + "개");
-        
-        // 각 프로젝트별 상세 정보 개수 출력
-        portfolio.getProjects().forEach(project -> {
-            System.out.println("- " + project.getName() + ": " + project.getDetails().size() + "개 상세 정보");
-        });
+        return portfolio;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.example.demo.util;
+
+import com.example.demo.dto.ImageVariantSet;
+import com.example.demo.service.ImageVariantResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 템플릿용 반응형 이미지 헬퍼
+ * - 사용 예: th:srcset="${@imageHelper.srcset(detail.imageUrl)}" th:sizes="${@imageHelper.sizes('modal')}"
+ */
+@Component("imageHelper")
+@RequiredArgsConstructor
+public class ImageHelper {
+
+    // 화면 위치별 표시 폭 (style.css의 레이아웃과 맞춤)
+    private static final Map<String, String> SIZES = Map.of(
+            "profile", "250px",
+            "card", "(max-width: 768px) 100vw, 33vw",
+            "modal", "(max-width: 900px) 90vw, 720px",
+            "admin", "(max-width: 768px) 100vw, 300px"
+    );
+
+    private final ImageVariantResolver imageVariantResolver;
+
+    /**
+     * 이미지 URL의 srcset 값 (변형이 없으면 null → 속성 생략)
+     */
+    public String srcset(String imageUrl) {
+        ImageVariantSet variants = imageVariantResolver.resolve(imageUrl);
+        return variants != null ? variants.getSrcset() : null;
+    }
+
+    /**
+     * 원본 폭 (모르면 null → 속성 생략)
+     */
+    public Integer width(String imageUrl) {
+        ImageVariantSet variants = imageVariantResolver.resolve(imageUrl);
+        return variants != null ? variants.getWidth() : null;
+    }
+
+    /**
+     * 원본 높이 (모르면 null → 속성 생략)
+     */
+    public Integer height(String imageUrl) {
+        ImageVariantSet variants = imageVariantResolver.resolve(imageUrl);
+        return variants != null ? variants.getHeight() : null;
+    }
+
+    /**
+     * 화면 위치별 sizes 값
+     */
+    public String sizes(String slot) {
+        return SIZES.getOrDefault(slot, "100vw");
+    }
+}
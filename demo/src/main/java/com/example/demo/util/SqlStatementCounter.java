@@ -0,0 +1,27 @@
+// src/main/java/com/example/demo/util/SqlStatementCounter.java
+package com.example.demo.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문장 수를 스레드별로 세는 StatementInspector
+ * - 누적 값만 보관하므로, 구간별 사용량은 시작/종료 시점의 current() 차이로 구합니다. (중첩 구간도 그대로 동작)
+ * - 같은 스레드에서 실행된 문장만 셉니다. (비동기 작업, 2차 캐시 적중은 포함되지 않음)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 준비된 SQL 문장 수
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
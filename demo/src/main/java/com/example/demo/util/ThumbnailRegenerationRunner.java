@@ -0,0 +1,40 @@
+// src/main/java/com/example/demo/util/ThumbnailRegenerationRunner.java
+package com.example.demo.util;
+
+import com.example.demo.service.ThumbnailRegenerationJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 명령행에서 썸네일 일괄 재생성 실행
+ * - 예: java -jar demo.jar --regenerate-thumbnails [--fresh] --spring.main.web-application-type=none
+ * - 작업이 끝나면 애플리케이션을 종료합니다. (실패한 이미지가 있으면 종료 코드 1)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailRegenerationRunner implements ApplicationRunner {
+
+    private final ThumbnailRegenerationJob thumbnailRegenerationJob;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption("regenerate-thumbnails")) {
+            return;
+        }
+
+        Map<String, Object> result = thumbnailRegenerationJob.run(args.containsOption("fresh"));
+        log.info("썸네일 재생성 결과: {}", result);
+
+        int exitCode = ((Number) result.get("failed")).intValue() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+    }
+}
@@ -0,0 +1,83 @@
+-- ===============================================
+-- IDENTITY → 풀링 시퀀스 ID 전환 (MySQL)
+-- ===============================================
+-- MySQL은 시퀀스가 없어 Hibernate가 <엔티티>_SEQ 테이블(next_val 한 행)로 시퀀스를 대체합니다.
+-- pooled-lo 최적화기는 next_val을 할당 구간의 시작 ID로 사용하므로, 기존 최대 ID + 1로 초기화합니다.
+-- 운영(ddl-auto: validate) 배포 전에 애플리케이션을 멈춘 상태에서 실행하세요.
+-- 이미 초기화된 시퀀스 테이블은 건드리지 않으므로 여러 번 실행해도 됩니다. (시퀀스 테이블은 한 행이어야 함)
+-- 기존 id 컬럼의 AUTO_INCREMENT는 그대로 두어도 됩니다. (INSERT 시 ID를 직접 지정)
+
+-- -----------------------------------------------
+-- 새 테이블 (validate는 테이블을 만들지 않으므로 먼저 생성)
+-- -----------------------------------------------
+
+-- 파일 삭제 아웃박스 (FileDeletionQueue)
+CREATE TABLE IF NOT EXISTS PendingFileDeletion (
+    id BIGINT NOT NULL,
+    imageUrl VARCHAR(255) NOT NULL,
+    attempts INT NOT NULL,
+    nextAttemptAt DATETIME(6) NOT NULL,
+    lastError VARCHAR(1000),
+    PRIMARY KEY (id),
+    INDEX idx_pending_file_deletion_next_attempt (nextAttemptAt)
+) ENGINE=InnoDB;
+
+-- 이미지 메타데이터 색인 (ImageAssetIndex)
+CREATE TABLE IF NOT EXISTS ImageAsset (
+    id BIGINT NOT NULL,
+    url VARCHAR(255) NOT NULL,
+    storagePath VARCHAR(255) NOT NULL,
+    sizeBytes BIGINT NOT NULL,
+    mimeType VARCHAR(255),
+    width INT,
+    height INT,
+    sha256 VARCHAR(64),
+    variants VARCHAR(1000),
+    createdAt DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE (url)
+) ENGINE=InnoDB;
+
+-- -----------------------------------------------
+-- 시퀀스 테이블 (기존 최대 ID + 1, 비어 있을 때만)
+-- -----------------------------------------------
+
+CREATE TABLE IF NOT EXISTS PortfolioData_SEQ (next_val BIGINT);
+INSERT INTO PortfolioData_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM PortfolioData) seed
+WHERE NOT EXISTS (SELECT 1 FROM PortfolioData_SEQ);
+
+CREATE TABLE IF NOT EXISTS Skill_SEQ (next_val BIGINT);
+INSERT INTO Skill_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM Skill) seed
+WHERE NOT EXISTS (SELECT 1 FROM Skill_SEQ);
+
+CREATE TABLE IF NOT EXISTS Career_SEQ (next_val BIGINT);
+INSERT INTO Career_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM Career) seed
+WHERE NOT EXISTS (SELECT 1 FROM Career_SEQ);
+
+CREATE TABLE IF NOT EXISTS Education_SEQ (next_val BIGINT);
+INSERT INTO Education_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM Education) seed
+WHERE NOT EXISTS (SELECT 1 FROM Education_SEQ);
+
+CREATE TABLE IF NOT EXISTS Certification_SEQ (next_val BIGINT);
+INSERT INTO Certification_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM Certification) seed
+WHERE NOT EXISTS (SELECT 1 FROM Certification_SEQ);
+
+CREATE TABLE IF NOT EXISTS Project_SEQ (next_val BIGINT);
+INSERT INTO Project_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM Project) seed
+WHERE NOT EXISTS (SELECT 1 FROM Project_SEQ);
+
+CREATE TABLE IF NOT EXISTS ProjectDetail_SEQ (next_val BIGINT);
+INSERT INTO ProjectDetail_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM ProjectDetail) seed
+WHERE NOT EXISTS (SELECT 1 FROM ProjectDetail_SEQ);
+
+CREATE TABLE IF NOT EXISTS Admin_SEQ (next_val BIGINT);
+INSERT INTO Admin_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM Admin) seed
+WHERE NOT EXISTS (SELECT 1 FROM Admin_SEQ);
+
+CREATE TABLE IF NOT EXISTS PendingFileDeletion_SEQ (next_val BIGINT);
+INSERT INTO PendingFileDeletion_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM PendingFileDeletion) seed
+WHERE NOT EXISTS (SELECT 1 FROM PendingFileDeletion_SEQ);
+
+CREATE TABLE IF NOT EXISTS ImageAsset_SEQ (next_val BIGINT);
+INSERT INTO ImageAsset_SEQ SELECT next_val FROM (SELECT COALESCE(MAX(id), 0) + 1 AS next_val FROM ImageAsset) seed
+WHERE NOT EXISTS (SELECT 1 FROM ImageAsset_SEQ);
@@ -5,6 +5,74 @@ document.addEventListener('DOMContentLoaded', () => {
     const modalOverlay = document.getElementById('project-modal');
     const modalCloseButton = document.querySelector('.modal-close-button');
     const modalDetailsContainer = document.getElementById('modal-details-container');
+    const modalMoreButton = document.getElementById('modal-details-more');
+
+    let currentProjectId = null;
+    let nextCursor = null;
+
+    // 상세 정보(이미지+설명) 항목 생성
+    const appendDetail = (detail) => {
+        const detailItem = document.createElement('div');
+        detailItem.classList.add('detail-item');
+
+        const img = document.createElement('img');
+        img.src = detail.image_url;
+        // 반응형 변형이 있으면 화면 폭에 맞는 크기를 브라우저가 선택
+        if (detail.image && detail.image.srcset) {
+            img.srcset = detail.image.srcset;
+            img.sizes = '(max-width: 900px) 90vw, 720px';
+        }
+        // 원본 해상도로 자리를 미리 잡아 이미지 로딩 중 레이아웃이 밀리지 않도록 함
+        if (detail.image && detail.image.width && detail.image.height) {
+            img.width = detail.image.width;
+            img.height = detail.image.height;
+        }
+        img.alt = '상세 이미지';
+        img.loading = 'lazy';
+
+        const description = document.createElement('p');
+        description.textContent = detail.description || '';
+
+        detailItem.append(img, description);
+        modalDetailsContainer.appendChild(detailItem);
+    };
+
+    const showStatus = (message) => {
+        const status = document.createElement('p');
+        status.classList.add('detail-status');
+        status.textContent = message;
+        modalDetailsContainer.appendChild(status);
+        return status;
+    };
+
+    // 상세 정보 페이지 불러오기 (키셋 페이지네이션)
+    const loadDetails = async (projectId, after) => {
+        modalMoreButton.style.display = 'none';
+        const status = showStatus('불러오는 중...');
+
+        try {
+            const response = await fetch(`/api/projects/${projectId}/details?after=${after}`, {
+                headers: { 'Accept': 'application/json' }
+            });
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
+            }
+            const page = await response.json();
+
+            // 응답을 기다리는 동안 다른 프로젝트를 열었다면 무시
+            if (projectId !== currentProjectId) return;
+
+            status.remove();
+            page.details.forEach(appendDetail);
+            nextCursor = page.next_cursor;
+            modalMoreButton.style.display = nextCursor ? 'block' : 'none';
+        } catch (error) {
+            console.error('상세 정보 조회 실패', error);
+            if (projectId === currentProjectId) {
+                status.textContent = '상세 정보를 불러오지 못했습니다.';
+            }
+        }
+    };
 
     projectCards.forEach(card => {
         card.addEventListener('click', () => {
@@ -23,26 +91,23 @@ document.addEventListener('DOMContentLoaded', () => {
                 urlLink.style.display = 'none';
             }
 
-            // 2. 모달에 상세 정보(이미지+설명) 채우기
+            // 2. 모달에 상세 정보(이미지+설명)는 열 때 API로 불러오기
             modalDetailsContainer.innerHTML = ''; // 기존 내용 초기화
-            const detailsId = data.detailsId;
-            const detailsSourceContainer = document.getElementById(detailsId);
-            
-            if (detailsSourceContainer) {
-                const detailSources = detailsSourceContainer.querySelectorAll('.detail-item-source');
-                detailSources.forEach(source => {
-                    const detailItem = document.createElement('div');
-                    detailItem.classList.add('detail-item');
-                    detailItem.innerHTML = source.innerHTML;
-                    modalDetailsContainer.appendChild(detailItem);
-                });
-            }
+            currentProjectId = data.projectId;
+            nextCursor = null;
+            loadDetails(currentProjectId, 0);
 
             // 3. 모달 보이기
             modalOverlay.classList.add('active');
         });
     });
 
+    modalMoreButton.addEventListener('click', () => {
+        if (currentProjectId && nextCursor) {
+            loadDetails(currentProjectId, nextCursor);
+        }
+    });
+
     // 모달 닫기 이벤트
     const closeModal = () => {
         modalOverlay.classList.remove('active');
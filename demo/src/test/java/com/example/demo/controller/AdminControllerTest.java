@@ -0,0 +1,108 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.ProjectCreateRequest;
+import com.example.demo.dto.ProjectDetailDto;
+import com.example.demo.repository.ProjectDetailRepository;
+import com.example.demo.service.PortfolioService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class AdminControllerTest {
+
+	@TempDir
+	static Path uploadDir;
+
+	@DynamicPropertySource
+	static void uploadDir(DynamicPropertyRegistry registry) {
+		registry.add("app.file.upload-dir", () -> uploadDir.toString());
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private ProjectDetailRepository projectDetailRepository;
+
+	private Long projectId;
+
+	@BeforeEach
+	void addProject() {
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName("일괄 업로드");
+		request.setPeriod("2025.01 ~ 2025.02");
+		projectId = portfolioService.addProject(1L, request).getId();
+	}
+
+	@AfterEach
+	void tearDown() {
+		portfolioService.deleteProjects(List.of(projectId));
+	}
+
+	@Test
+	void singleDescriptionWithCommaIsStoredIntact() throws Exception {
+		mockMvc.perform(multipart("/admin/project/{projectId}/details/batch", projectId)
+						.file(image("login.png", Color.RED))
+						.param("descriptions", "로그인, 대시보드"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.succeeded").value(1));
+
+		assertThat(storedDescriptions()).containsExactly("로그인, 대시보드");
+	}
+
+	@Test
+	void descriptionsArePairedWithFilesByIndex() throws Exception {
+		mockMvc.perform(multipart("/admin/project/{projectId}/details/batch", projectId)
+						.file(image("login.png", Color.RED))
+						.file(image("settings.png", Color.BLUE))
+						.param("descriptions", "로그인, 대시보드", "설정"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.succeeded").value(2));
+
+		assertThat(storedDescriptions()).containsExactly("로그인, 대시보드", "설정");
+	}
+
+	private List<String> storedDescriptions() {
+		return projectDetailRepository.findDtosAfter(projectId, 0L, PageRequest.of(0, 10)).stream()
+				.map(ProjectDetailDto::getDescription)
+				.toList();
+	}
+
+	// 콘텐츠 주소 저장이므로 파일마다 내용이 달라야 별도 파일로 저장됨
+	private MockMultipartFile image(String name, Color color) throws IOException {
+		BufferedImage image = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+		image.setRGB(0, 0, color.getRGB());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return new MockMultipartFile("detailImages", name, "image/png", out.toByteArray());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Project;
+import com.example.demo.dto.ProjectCreateRequest;
+import com.example.demo.repository.PortfolioDataRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.support.QueryBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 2차 캐시는 커밋된 데이터만 채우므로 트랜잭션 롤백 대신, 만든 프로젝트를 테스트 후 삭제
+// (적중 수 확인용 통계만 켜고, 문장 수는 @QueryBudget으로 확인)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EntityCacheTest {
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private PortfolioDataRepository portfolioDataRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Long> createdProjectIds = new ArrayList<>();
+	private Long cachedProjectId;
+
+	@BeforeEach
+	void warmUp() {
+		cachedProjectId = createProject("캐시 프로젝트", 3);
+		// 첫 조회에서 엔티티/컬렉션 리전을 채움
+		assertThat(loadDetailCount(cachedProjectId)).isEqualTo(3);
+	}
+
+	@AfterEach
+	void tearDown() {
+		portfolioService.deleteProjects(createdProjectIds);
+	}
+
+	@Test
+	@QueryBudget(0)
+	void projectAndDetailsAreServedFromSecondLevelCache() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long hitsBefore = statistics.getSecondLevelCacheHitCount();
+
+		int detailCount = loadDetailCount(cachedProjectId);
+
+		assertThat(detailCount).isEqualTo(3);
+		assertThat(statistics.getSecondLevelCacheHitCount() - hitsBefore).isGreaterThanOrEqualTo(5);
+	}
+
+	@Test
+	void addingOrDeletingDetailRefreshesCachedCollection() {
+		Long projectId = createProject("컬렉션 캐시", 2);
+		assertThat(loadDetailCount(projectId)).isEqualTo(2);
+
+		Long detailId = portfolioService.addProjectDetail(projectId, detailImageUrl(2), "추가").getId();
+		assertThat(loadDetailCount(projectId)).isEqualTo(3);
+
+		portfolioService.deleteProjectDetail(detailId);
+		assertThat(loadDetailCount(projectId)).isEqualTo(2);
+	}
+
+	@Test
+	void addingProjectRefreshesCachedPortfolioCollection() {
+		int before = loadProjectCount();
+		assertThat(loadProjectCount()).isEqualTo(before);
+
+		createProject("포트폴리오 컬렉션 캐시", 0);
+
+		assertThat(loadProjectCount()).isEqualTo(before + 1);
+	}
+
+	@Test
+	void updateRefreshesCachedEntity() {
+		ProjectCreateRequest request = projectRequest("변경 전");
+		Long projectId = portfolioService.addProject(1L, request).getId();
+		createdProjectIds.add(projectId);
+		projectRepository.findById(projectId).orElseThrow();
+
+		request.setName("변경 후");
+		portfolioService.updateProject(projectId, request, null);
+
+		assertThat(projectRepository.findById(projectId).orElseThrow().getName()).isEqualTo("변경 후");
+	}
+
+	// 상세 이미지는 외부 URL로 두어 삭제 시 파일 정리 대상이 되지 않게 함
+	private Long createProject(String name, int details) {
+		Long projectId = portfolioService.addProject(1L, projectRequest(name)).getId();
+		createdProjectIds.add(projectId);
+		for (int i = 0; i < details; i++) {
+			portfolioService.addProjectDetail(projectId, detailImageUrl(i), "설명 " + i);
+		}
+		return projectId;
+	}
+
+	private String detailImageUrl(int index) {
+		return "https://example.com/cache-" + index + ".jpg";
+	}
+
+	private ProjectCreateRequest projectRequest(String name) {
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName(name);
+		request.setPeriod("2025.01 ~ 2025.02");
+		return request;
+	}
+
+	private int loadDetailCount(Long projectId) {
+		return readOnly().execute(status -> {
+			Project project = projectRepository.findById(projectId).orElseThrow();
+			return project.getDetails().size();
+		});
+	}
+
+	private int loadProjectCount() {
+		return readOnly().execute(status -> portfolioDataRepository.findById(1L).orElseThrow().getProjects().size());
+	}
+
+	private TransactionTemplate readOnly() {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		return readOnly;
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ProjectCreateRequest;
+import com.example.demo.repository.ImageAssetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImageAssetIndexTest {
+
+	@TempDir
+	static Path uploadDir;
+
+	@DynamicPropertySource
+	static void uploadDir(DynamicPropertyRegistry registry) {
+		registry.add("app.file.upload-dir", () -> uploadDir.toString());
+	}
+
+	@Autowired
+	private PortfolioAggregateLoader aggregateLoader;
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private ImageAssetRepository imageAssetRepository;
+
+	private Long projectId;
+
+	@AfterEach
+	void tearDown() {
+		if (projectId != null) {
+			portfolioService.deleteProjects(List.of(projectId));
+		}
+	}
+
+	@Test
+	void renderingUnindexedImagePersistsMetadata() throws IOException {
+		// 색인 이전에 저장된 파일처럼 저장소에 직접 둠
+		String url = "/images/legacy-render.png";
+		ImageIO.write(new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB), "png",
+				uploadDir.resolve("legacy-render.png").toFile());
+
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName("색인 이전 이미지");
+		request.setPeriod("2025.01 ~ 2025.02");
+		projectId = portfolioService.addProject(1L, request).getId();
+		portfolioService.replaceProjectThumbnail(projectId, url);
+		assertThat(imageAssetRepository.findByUrl(url)).isEmpty();
+
+		// 읽기 전용 트랜잭션의 렌더링 경로에서 처음 조회
+		aggregateLoader.load(1L).orElseThrow();
+
+		assertThat(imageAssetRepository.findByUrl(url)).hasValueSatisfying(asset -> {
+			assertThat(asset.getWidth()).isEqualTo(64);
+			assertThat(asset.getHeight()).isEqualTo(48);
+		});
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import com.example.demo.service.FileStorageService.ThumbnailSize;
+import com.example.demo.support.Benchmark;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+
+/**
+ * 썸네일 리샘플링 벤치마크 (원본에서 크기별 단일 축소 vs 단계적 cascade 축소)
+ * - 24MP(6000x4000) JPEG 한 장을 디코딩한 뒤, 업로드 1건당 3개 크기 생성 비용을 측정합니다.
+ * - 디코딩/인코딩은 두 방식이 같으므로 비교에서 제외하고, 디코딩 비용만 참고로 출력합니다.
+ * 실행: ./mvnw test -Dtest=ImageResamplerBenchmarkTest -Dbenchmark=true
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ImageResamplerBenchmarkTest {
+
+	private static final int WARMUP = 3;
+	private static final int ITERATIONS = 10;
+
+	private final ImageResampler resampler = new ImageResampler(0, true);
+
+	@AfterEach
+	void tearDown() {
+		resampler.shutdown();
+	}
+
+	@Test
+	void compareSingleStepWithCascade() throws Exception {
+		byte[] jpeg = sampleJpeg(6000, 4000);
+		BufferedImage original = ImageIO.read(new ByteArrayInputStream(jpeg));
+		EnumSet<ThumbnailSize> sizes = EnumSet.allOf(ThumbnailSize.class);
+
+		// 참고용: 두 방식 모두에 공통으로 드는 디코딩 비용
+		Benchmark.report("decode", Benchmark.measure(WARMUP, ITERATIONS, () -> {
+			try {
+				ImageIO.read(new ByteArrayInputStream(jpeg));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}));
+		Benchmark.report("single-step", Benchmark.measure(WARMUP, ITERATIONS, () -> {
+			for (ThumbnailSize size : sizes) {
+				singleStep(original, size.width, size.height);
+			}
+		}));
+		Benchmark.report("cascade", Benchmark.measure(WARMUP, ITERATIONS, () -> resampler.renderCascade(original, sizes, (size, image) -> { })));
+	}
+
+	/**
+	 * 기존 구현과 동일한 단일 bilinear 축소 (비교 기준)
+	 */
+	private BufferedImage singleStep(BufferedImage source, int boxWidth, int boxHeight) {
+		double ratio = Math.min((double) boxWidth / source.getWidth(), (double) boxHeight / source.getHeight());
+		int width = (int) (source.getWidth() * ratio);
+		int height = (int) (source.getHeight() * ratio);
+
+		BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g2d = result.createGraphics();
+		g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+		g2d.drawImage(source, 0, 0, width, height, null);
+		g2d.dispose();
+		return result;
+	}
+
+	private byte[] sampleJpeg(int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+		Graphics2D g2d = image.createGraphics();
+		g2d.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+		g2d.fillRect(0, 0, width, height);
+		g2d.dispose();
+
+		ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+		ImageIO.write(image, "jpg", jpeg);
+		return jpeg.toByteArray();
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import com.example.demo.service.FileStorageService.ThumbnailSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResamplerTest {
+
+	private final ImageResampler resampler = new ImageResampler(1, true);
+
+	@AfterEach
+	void tearDown() {
+		resampler.shutdown();
+	}
+
+	@Test
+	void transparentSourceDoesNotShowPreviousUpload() {
+		// 같은 스크래치 버퍼를 쓰도록 빨간 ARGB 이미지를 먼저 처리
+		render(argb(4000, 3000, Color.RED));
+
+		Map<ThumbnailSize, BufferedImage> results = render(argb(4000, 3000, new Color(0, 0, 0, 0)));
+
+		results.forEach((size, image) -> {
+			for (int y = 0; y < image.getHeight(); y++) {
+				for (int x = 0; x < image.getWidth(); x++) {
+					assertThat(image.getRGB(x, y)).as("%s (%d,%d)", size, x, y).isEqualTo(Color.WHITE.getRGB());
+				}
+			}
+		});
+	}
+
+	@Test
+	void bilinearStepMatchesJava2d() {
+		// 절반 축소 없이 마지막 단계만 거치는 비율 (300x300 -> 200x200)
+		BufferedImage source = new BufferedImage(300, 300, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g2d = source.createGraphics();
+		g2d.setPaint(new GradientPaint(0, 0, Color.ORANGE, 300, 300, Color.BLUE));
+		g2d.fillRect(0, 0, 300, 300);
+		g2d.dispose();
+
+		BufferedImage resized = resampler.resize(source, 200, 200);
+
+		BufferedImage expected = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+		g2d = expected.createGraphics();
+		g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+		g2d.drawImage(source, 0, 0, 200, 200, null);
+		g2d.dispose();
+		for (int y = 0; y < 200; y++) {
+			for (int x = 0; x < 200; x++) {
+				int actual = resized.getRGB(x, y);
+				int reference = expected.getRGB(x, y);
+				for (int shift = 0; shift < 24; shift += 8) {
+					assertThat(Math.abs(((actual >> shift) & 0xFF) - ((reference >> shift) & 0xFF)))
+							.as("(%d,%d)", x, y).isLessThanOrEqualTo(1);
+				}
+			}
+		}
+	}
+
+	private Map<ThumbnailSize, BufferedImage> render(BufferedImage source) {
+		Map<ThumbnailSize, BufferedImage> results = new EnumMap<>(ThumbnailSize.class);
+		resampler.renderCascade(source, EnumSet.allOf(ThumbnailSize.class), (size, image) -> {
+			synchronized (results) {
+				results.put(size, image);
+			}
+		});
+		return results;
+	}
+
+	private BufferedImage argb(int width, int height, Color color) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		g2d.setComposite(AlphaComposite.Src);
+		g2d.setColor(color);
+		g2d.fillRect(0, 0, width, height);
+		g2d.dispose();
+		return image;
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.PortfolioData;
+import com.example.demo.domain.Project;
+import com.example.demo.dto.ProjectCreateRequest;
+import com.example.demo.repository.PortfolioDataRepository;
+import com.example.demo.repository.ProjectDetailRepository;
+import com.example.demo.support.Benchmark;
+import com.example.demo.support.QueryBudget;
+import com.example.demo.util.DataInitializer;
+import com.example.demo.util.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * INSERT 배치 벤치마크 (풀링 시퀀스 ID)
+ * - IDENTITY에서는 행마다 INSERT 한 번이었으므로 statements ≈ rows 였습니다.
+ * 실행: ./mvnw test -Dtest=InsertBatchingBenchmarkTest -Dbenchmark=true
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "logging.level.org.hibernate.SQL=WARN")
+class InsertBatchingBenchmarkTest {
+
+	private static final int DETAIL_ROWS = 1000;
+
+	// 샘플 포트폴리오는 약 50행이므로 행마다 INSERT라면 예산의 두 배를 넘음
+	private static final long SEED_STATEMENTS = 25;
+
+	// 프로젝트 저장 + 상세 정보 INSERT 배치(20행씩)와 시퀀스 조회 + 저장 확인 조회 (행마다 INSERT라면 1000개 이상)
+	private static final long DETAIL_STATEMENTS = DETAIL_ROWS / 10;
+
+	@Autowired
+	private DataInitializer dataInitializer;
+
+	@Autowired
+	private PortfolioDataRepository portfolioDataRepository;
+
+	@Autowired
+	private ProjectDetailRepository projectDetailRepository;
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@QueryBudget(SEED_STATEMENTS)
+	void seedingIsBatched() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		PortfolioData portfolio = dataInitializer.createSamplePortfolio();
+
+		long statements = SqlStatementCounter.current();
+		long started = System.nanoTime();
+		transaction.executeWithoutResult(status -> {
+			portfolioDataRepository.saveAndFlush(portfolio);
+			status.setRollbackOnly();
+		});
+		long elapsed = System.nanoTime() - started;
+
+		report("seed", rowCount(portfolio), SqlStatementCounter.current() - statements, elapsed);
+	}
+
+	@Test
+	@QueryBudget(DETAIL_STATEMENTS)
+	void bulkDetailInsertIsBatched() {
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName("배치 벤치마크");
+		request.setPeriod("2025.01 ~ 2025.02");
+
+		List<String> imageUrls = new ArrayList<>(DETAIL_ROWS);
+		List<String> descriptions = new ArrayList<>(DETAIL_ROWS);
+		for (int i = 0; i < DETAIL_ROWS; i++) {
+			imageUrls.add("/images/batch-" + i + ".jpg");
+			descriptions.add("설명 " + i);
+		}
+
+		// 공유 DB(포트폴리오 1)에 남지 않도록 한 트랜잭션에서 측정 후 롤백
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> {
+			Project project = portfolioService.addProject(1L, request);
+			entityManager.flush();
+
+			long statements = SqlStatementCounter.current();
+			long started = System.nanoTime();
+			portfolioService.addProjectDetails(project.getId(), imageUrls, descriptions);
+			entityManager.flush();
+			long elapsed = System.nanoTime() - started;
+
+			report("details", DETAIL_ROWS, SqlStatementCounter.current() - statements, elapsed);
+			assertThat(projectDetailRepository.findImageUrlsByProjectId(project.getId())).hasSize(DETAIL_ROWS);
+			status.setRollbackOnly();
+		});
+	}
+
+	private int rowCount(PortfolioData portfolio) {
+		return 1 + portfolio.getSkills().size() + portfolio.getCareers().size() + portfolio.getEducations().size()
+				+ portfolio.getCertifications().size() + portfolio.getProjects().size()
+				+ portfolio.getProjects().stream().mapToInt(project -> project.getDetails().size()).sum();
+	}
+
+	private void report(String name, long rows, long statements, long elapsedNanos) {
+		Benchmark.report(name, "%,d rows, %,d statements, %,d ms, %,.0f rows/s",
+				rows, statements, elapsedNanos / 1_000_000, rows / (elapsedNanos / 1_000_000_000.0));
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Project;
+import com.example.demo.dto.CareerCreateRequest;
+import com.example.demo.dto.PortfolioResponse;
+import com.example.demo.dto.ProjectCreateRequest;
+import com.example.demo.dto.SkillCreateRequest;
+import com.example.demo.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공유 포트폴리오(1)에 추가한 데이터가 다른 테스트의 개수 검증에 영향을 주지 않도록 롤백
+@SpringBootTest
+@Transactional
+class PortfolioAggregateLoaderTest {
+
+	// 루트 1 + 스킬 1 + 프로젝트 1 + 학력 1 + 경력 1 + 자격증 1 (상세 정보는 조회하지 않음)
+	private static final long EXPECTED_STATEMENTS = 6;
+
+	@Autowired
+	private PortfolioAggregateLoader aggregateLoader;
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@QueryBudget(value = EXPECTED_STATEMENTS, exact = true)
+	void loadsAggregateWithFixedNumberOfStatements() {
+		PortfolioResponse response = aggregateLoader.load(1L).orElseThrow();
+
+		assertThat(response.getProjects()).isNotEmpty();
+		assertThat(response.getSkillsByCategory()).isNotEmpty();
+	}
+
+	@Nested
+	class WithLargerCollections {
+
+		@BeforeEach
+		void addRows() {
+			for (int i = 0; i < 5; i++) {
+				Project project = portfolioService.addProject(1L, projectRequest("추가 프로젝트 " + i));
+				for (int j = 0; j < 4; j++) {
+					portfolioService.addProjectDetail(project.getId(), "/images/detail-" + i + "-" + j + ".jpg", "설명 " + j);
+				}
+				portfolioService.addSkill(1L, skillRequest("Tools", "도구 " + i));
+				portfolioService.addCareer(1L, careerRequest("회사 " + i));
+			}
+			// 준비 단계의 INSERT가 측정 구간의 조회 직전에 flush되지 않도록 먼저 내보냄
+			entityManager.flush();
+		}
+
+		@Test
+		@QueryBudget(value = EXPECTED_STATEMENTS, exact = true)
+		void statementCountDoesNotGrowWithCollectionSizes() {
+			PortfolioResponse response = aggregateLoader.load(1L).orElseThrow();
+
+			assertThat(response.getProjects()).hasSizeGreaterThanOrEqualTo(5)
+					.allSatisfy(project -> assertThat(project.getDetails()).isEmpty());
+		}
+	}
+
+	private ProjectCreateRequest projectRequest(String name) {
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName(name);
+		request.setPeriod("2025.01 ~ 2025.02");
+		return request;
+	}
+
+	private SkillCreateRequest skillRequest(String category, String name) {
+		SkillCreateRequest request = new SkillCreateRequest();
+		request.setCategory(category);
+		request.setName(name);
+		return request;
+	}
+
+	private CareerCreateRequest careerRequest(String company) {
+		CareerCreateRequest request = new CareerCreateRequest();
+		request.setCompany(company);
+		request.setPosition("개발자");
+		request.setPeriod("2025.01 ~ 현재");
+		return request;
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Project;
+import com.example.demo.dto.ProjectCreateRequest;
+import com.example.demo.repository.ProjectDetailRepository;
+import com.example.demo.repository.ProjectRepository;
+import com.example.demo.support.QueryBudget;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+// 공유 포트폴리오(1)에 추가한 프로젝트가 남지 않도록 롤백
+@SpringBootTest
+@Transactional
+class PortfolioBulkDeleteTest {
+
+	// 이미지 URL 조회 1 + 상세 정보 DELETE 1 + 프로젝트 DELETE 1
+	private static final long DELETE_PROJECTS_STATEMENTS = 3;
+
+	// 프로젝트 존재 확인 1 + 이미지 URL 조회 1 + 상세 정보 DELETE 1
+	private static final long DELETE_DETAILS_STATEMENTS = 3;
+
+	// 테스트 본문의 삭제 결과 확인 조회
+	private static final long VERIFY_PROJECTS_STATEMENTS = 1;
+	private static final long VERIFY_DETAILS_STATEMENTS = 2;
+
+	private static final int PROJECTS = 3;
+	private static final int DETAILS_PER_PROJECT = 5;
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private ProjectDetailRepository projectDetailRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	// 파일 정리로 넘어간 URL만 확인 (삭제 작업의 SQL이 측정에 섞이지 않도록)
+	@MockitoBean
+	private FileDeletionQueue fileDeletionQueue;
+
+	private final List<Long> projectIds = new ArrayList<>();
+	private final List<String> imageUrls = new ArrayList<>();
+
+	@BeforeEach
+	void addProjects() {
+		for (int i = 0; i < PROJECTS; i++) {
+			Project project = portfolioService.addProject(1L, projectRequest("삭제 프로젝트 " + i));
+			projectIds.add(project.getId());
+			for (int j = 0; j < DETAILS_PER_PROJECT; j++) {
+				String imageUrl = "/images/bulk-" + i + "-" + j + ".jpg";
+				portfolioService.addProjectDetail(project.getId(), imageUrl, "설명 " + j);
+				imageUrls.add(imageUrl);
+			}
+		}
+		// 준비 단계의 INSERT를 먼저 보내 측정 구간에 섞이지 않게 함
+		entityManager.flush();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@QueryBudget(value = DELETE_PROJECTS_STATEMENTS + VERIFY_PROJECTS_STATEMENTS, exact = true)
+	void deletesManyProjectsWithFixedNumberOfStatements() {
+		int deleted = portfolioService.deleteProjects(projectIds);
+
+		assertThat(deleted).isEqualTo(PROJECTS);
+		assertThat(projectRepository.findAllById(projectIds)).isEmpty();
+
+		ArgumentCaptor<Collection<String>> released = ArgumentCaptor.forClass(Collection.class);
+		verify(fileDeletionQueue).releaseAll(released.capture());
+		assertThat(released.getValue()).containsAll(imageUrls);
+	}
+
+	@Test
+	@QueryBudget(value = DELETE_DETAILS_STATEMENTS + VERIFY_DETAILS_STATEMENTS, exact = true)
+	void deletesAllDetailsOfProjectWithFixedNumberOfStatements() {
+		Long projectId = projectIds.get(0);
+
+		int deleted = portfolioService.deleteProjectDetails(projectId);
+
+		assertThat(deleted).isEqualTo(DETAILS_PER_PROJECT);
+		assertThat(projectDetailRepository.findImageUrlsByProjectId(projectId)).isEmpty();
+		assertThat(projectRepository.existsById(projectId)).isTrue();
+	}
+
+	@Test
+	void deletingMissingProjectFails() {
+		assertThatThrownBy(() -> portfolioService.deleteProject(Long.MAX_VALUE))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private ProjectCreateRequest projectRequest(String name) {
+		ProjectCreateRequest request = new ProjectCreateRequest();
+		request.setName(name);
+		request.setPeriod("2025.01 ~ 2025.02");
+		return request;
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.PortfolioData;
+import com.example.demo.domain.Project;
+import com.example.demo.dto.CareerDto;
+import com.example.demo.dto.CertificationDto;
+import com.example.demo.dto.EducationDto;
+import com.example.demo.dto.PortfolioProfileDto;
+import com.example.demo.dto.PortfolioResponse;
+import com.example.demo.dto.ProjectDto;
+import com.example.demo.dto.SkillDto;
+import com.example.demo.repository.PortfolioDataRepository;
+import com.example.demo.support.Benchmark;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공개 페이지 조회 경로 벤치마크 (엔티티 변환 vs DTO 프로젝션)
+ * - 두 경로 모두 같은 필드를 채웁니다. (프로젝트 상세 정보 제외, 이미지 srcset 포함)
+ * - 엔티티 경로는 2차 캐시를 거치지 않도록 CacheMode.IGNORE로 조회합니다. (프로젝션 쿼리는 2차 캐시를 쓰지 않음)
+ * 실행: ./mvnw test -Dtest=PortfolioReadPathBenchmarkTest -Dbenchmark=true
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "logging.level.org.hibernate.SQL=WARN")
+class PortfolioReadPathBenchmarkTest {
+
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 2000;
+
+	@Autowired
+	private PortfolioAggregateLoader aggregateLoader;
+
+	@Autowired
+	private PortfolioDataRepository portfolioDataRepository;
+
+	@Autowired
+	private ImageVariantResolver imageVariantResolver;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void compareEntityConversionWithProjection() {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		// 같은 결과를 비교하는지 먼저 확인
+		PortfolioResponse entity = readOnly.execute(status -> loadThroughEntities());
+		PortfolioResponse projection = aggregateLoader.load(1L).orElseThrow();
+		assertThat(entity).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(projection);
+
+		Benchmark.report("entity", Benchmark.measure(WARMUP, ITERATIONS, () -> readOnly.execute(status -> loadThroughEntities())));
+		Benchmark.report("projection", Benchmark.measure(WARMUP, ITERATIONS, () -> aggregateLoader.load(1L).orElseThrow()));
+	}
+
+	// 엔티티 그래프를 읽어 PortfolioAggregateLoader와 같은 모양으로 변환
+	private PortfolioResponse loadThroughEntities() {
+		entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+		PortfolioData portfolio = portfolioDataRepository.findById(1L).orElseThrow();
+		return new PortfolioResponse(
+				new PortfolioProfileDto(portfolio.getId(), portfolio.getName(), portfolio.getJobTitle(),
+						portfolio.getPhilosophy(), portfolio.getBirth(), portfolio.getAddress(), portfolio.getEmail(),
+						portfolio.getPhone(), portfolio.getGithubUrl(), portfolio.getProfileImageUrl()),
+				portfolio.getSkills().stream().map(SkillDto::new).toList(),
+				portfolio.getProjects().stream().map(this::toProjectDto).toList(),
+				portfolio.getEducations().stream().map(EducationDto::new).toList(),
+				portfolio.getCareers().stream().map(CareerDto::new).toList(),
+				portfolio.getCertifications().stream().map(CertificationDto::new).toList(),
+				imageVariantResolver.resolve(portfolio.getProfileImageUrl()));
+	}
+
+	private ProjectDto toProjectDto(Project project) {
+		return new ProjectDto(project.getId(), project.getName(), project.getPeriod(), project.getDescription(),
+				project.getTechStack(), project.getProjectUrl(), project.getTeamInfo(), project.getThumbnailUrl())
+				.withThumbnail(imageVariantResolver.resolve(project.getThumbnailUrl()));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.Career;
+import com.example.demo.dto.CareerCreateRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 공유 포트폴리오(1)에 추가한 경력이 남지 않도록 롤백
+@SpringBootTest
+@Transactional
+class SqlStatementBudgetTest {
+
+	@Autowired
+	private PortfolioService portfolioService;
+
+	@Autowired
+	private SqlStatementBudget sqlStatementBudget;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void recordsStatementsPerServiceMethod() {
+		CareerCreateRequest request = new CareerCreateRequest();
+		request.setCompany("예산 회사");
+		request.setPosition("개발자");
+		request.setPeriod("2025.01 ~ 현재");
+		Career career = portfolioService.addCareer(1L, request);
+		// 1차/2차 캐시 적중이면 SQL이 없으므로 비우고 측정
+		entityManager.flush();
+		entityManager.clear();
+		entityManagerFactory.getCache().evictAll();
+		sqlStatementBudget.reset();
+
+		portfolioService.findCareerById(career.getId());
+
+		Map<String, Object> methods = (Map<String, Object>) sqlStatementBudget.getStats().get("serviceMethods");
+		Map<String, Object> findCareer = (Map<String, Object>) methods.get("PortfolioService.findCareerById");
+		assertThat(findCareer).isNotNull();
+		assertThat(findCareer.get("calls")).isEqualTo(1L);
+		assertThat((Long) findCareer.get("statements")).isPositive();
+		assertThat(findCareer.get("overBudget")).isEqualTo(0L);
+	}
+}
@@ -0,0 +1,59 @@
+package com.example.demo.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * 벤치마크 테스트 공용 측정/출력 도우미
+ * - 워밍업 후 반복 실행하여 작업당 평균 시간과 할당량을 구합니다.
+ * - 병렬 작업은 풀 스레드에서 할당하므로 할당량은 모든 스레드를 합산합니다.
+ */
+public final class Benchmark {
+
+	private static final Logger log = LoggerFactory.getLogger(Benchmark.class);
+
+	/**
+	 * 작업 한 번당 평균 시간(ns)과 할당량(bytes)
+	 */
+	public record Result(long nanosPerOp, long bytesPerOp) {
+	}
+
+	private Benchmark() {
+	}
+
+	public static Result measure(int warmup, int iterations, Runnable operation) {
+		for (int i = 0; i < warmup; i++) {
+			operation.run();
+		}
+		long allocatedBefore = allocatedBytes();
+		long started = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			operation.run();
+		}
+		long elapsed = System.nanoTime() - started;
+		long allocated = allocatedBytes() - allocatedBefore;
+		return new Result(elapsed / iterations, allocated / iterations);
+	}
+
+	public static void report(String name, Result result) {
+		log.info("[benchmark] {}: avg {} ms/op, {} B/op", name,
+				String.format("%,.3f", result.nanosPerOp() / 1_000_000.0), String.format("%,d", result.bytesPerOp()));
+	}
+
+	/**
+	 * 반복 측정이 아닌 지표(행 수, 문장 수 등) 출력
+	 */
+	public static void report(String name, String format, Object... args) {
+		log.info("[benchmark] {}: {}", name, String.format(format, args));
+	}
+
+	private static long allocatedBytes() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+				.filter(bytes -> bytes > 0)
+				.sum();
+	}
+}
@@ -0,0 +1,30 @@
+package com.example.demo.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문이 실행할 수 있는 최대 SQL 문장 수
+ * - @BeforeEach 준비 작업은 포함하지 않으며, 테스트 스레드에서 실행된 문장만 셉니다.
+ * - 사용 예: @Test @QueryBudget(7) void loadsAggregate() { ... }
+ * - exact = true면 정확히 그 수여야 합니다. (캐시 우회나 컬렉션 누락으로 문장이 줄어든 경우도 실패)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+	/**
+	 * 허용하는 최대 문장 수
+	 */
+	long value();
+
+	/**
+	 * true면 상한이 아니라 정확한 문장 수로 검사
+	 */
+	boolean exact() default false;
+}
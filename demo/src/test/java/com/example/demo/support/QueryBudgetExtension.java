@@ -0,0 +1,41 @@
+package com.example.demo.support;
+
+import com.example.demo.util.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @QueryBudget 처리: 테스트 본문 전후의 SqlStatementCounter 차이가 예산을 넘으면(exact면 다르면) 실패
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+	private static final String STARTED = "started";
+
+	@Override
+	public void beforeTestExecution(ExtensionContext context) {
+		context.getStore(NAMESPACE).put(STARTED, SqlStatementCounter.current());
+	}
+
+	@Override
+	public void afterTestExecution(ExtensionContext context) {
+		QueryBudget budget = context.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+		Long started = context.getStore(NAMESPACE).remove(STARTED, Long.class);
+		if (budget == null || started == null || context.getExecutionException().isPresent()) {
+			return;
+		}
+		long statements = SqlStatementCounter.current() - started;
+		if (budget.exact()) {
+			assertThat(statements)
+					.as("%s: SQL 문장 수가 예상(%d)과 다릅니다", context.getDisplayName(), budget.value())
+					.isEqualTo(budget.value());
+			return;
+		}
+		assertThat(statements)
+				.as("%s: SQL 문장 수가 예산(%d)을 넘었습니다", context.getDisplayName(), budget.value())
+				.isLessThanOrEqualTo(budget.value());
+	}
+}